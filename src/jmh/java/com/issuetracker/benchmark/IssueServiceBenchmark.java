@@ -0,0 +1,158 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.IssueTrackerApplication;
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Issue.IssueType;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.service.IssueService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueService search and workflow transitions through the full Spring/JPA stack, on H2 seeded with
+ * {@code projects * issuesPerProject} issues. Searches read one project; the workflow benchmark creates,
+ * starts and completes a new assigned issue per invocation, so the table grows slowly over a run. Each
+ * transition pays for the full write path, including the project counters and the daily-closed rollup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SEED_CHUNK = 1000;
+
+    @Param("10")
+    public int projects;
+
+    @Param("5000")
+    public int issuesPerProject;
+
+    private ConfigurableApplicationContext context;
+    private IssueService issueService;
+    private Project project;
+    private User assignee;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(IssueTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                // As arguments, so they win over spring.profiles.active=dev in application.yml
+                .run("--spring.profiles.active=test");
+        issueService = context.getBean(IssueService.class);
+        seed();
+
+        // Cursor about halfway through the project, as a client paging deep into results would hold
+        CursorPage<IssueDTO> page = issueService.searchIssues(project.getId(), null, "", null, PAGE_SIZE);
+        for (int i = 1; i < issuesPerProject / PAGE_SIZE / 2 && page.getNextCursor() != null; i++) {
+            page = issueService.searchIssues(project.getId(), null, "", page.getNextCursor(), PAGE_SIZE);
+        }
+        deepCursor = page.getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<IssueDTO> searchFirstPage() {
+        return issueService.searchIssues(project.getId(), null, "", null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<IssueDTO> searchByStatus() {
+        return issueService.searchIssues(project.getId(), IssueStatus.IN_PROGRESS, "", null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<IssueDTO> searchDeepPage() {
+        return issueService.searchIssues(project.getId(), null, "", deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<IssueDTO> searchText() {
+        return issueService.searchIssues(project.getId(), null, "timeout", null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Issue workflowTransitions() {
+        Issue issue = new Issue();
+        issue.setTitle("Benchmark issue");
+        issue.setType(IssueType.TASK);
+        issue.setPriority(IssuePriority.LOW);
+        issue.setProject(project);
+        issue.setAssignee(assignee);
+        Issue created = issueService.createIssue(issue);
+        issueService.startIssue(created.getId(), null);
+        return issueService.completeIssue(created.getId(), null);
+    }
+
+    private void seed() {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Random random = new Random(42);
+        String[] words = {"login", "timeout", "export", "dashboard", "crash", "layout", "search", "permission"};
+
+        List<User> users = new ArrayList<>();
+        List<Project> seeded = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            for (int u = 0; u < 50; u++) {
+                User user = User.builder().username("bench" + u).email("bench" + u + "@example.com").password("x").build();
+                entityManager.persist(user);
+                users.add(user);
+            }
+            for (int p = 0; p < projects; p++) {
+                Project seededProject = Project.builder().name("Benchmark " + p).key("BENCH" + p).build();
+                entityManager.persist(seededProject);
+                seeded.add(seededProject);
+            }
+        });
+        project = seeded.get(0);
+        assignee = users.get(0);
+
+        LocalDateTime start = LocalDateTime.now().minusYears(2);
+        int total = projects * issuesPerProject;
+        for (int from = 0; from < total; from += SEED_CHUNK) {
+            int offset = from;
+            tx.executeWithoutResult(status -> {
+                for (int n = offset; n < Math.min(offset + SEED_CHUNK, total); n++) {
+                    Issue issue = new Issue();
+                    issue.setTitle(words[random.nextInt(words.length)] + " issue " + n);
+                    issue.setDescription("The " + words[random.nextInt(words.length)] + " page misbehaves for some users");
+                    issue.setType(IssueType.values()[random.nextInt(IssueType.values().length)]);
+                    issue.setStatus(IssueStatus.values()[random.nextInt(IssueStatus.values().length)]);
+                    issue.setPriority(IssuePriority.values()[random.nextInt(IssuePriority.values().length)]);
+                    issue.setCreatedAt(start.plusMinutes(random.nextInt(2 * 365 * 24 * 60)));
+                    issue.setProject(entityManager.getReference(Project.class, seeded.get(n % projects).getId()));
+                    User assignee = users.get(random.nextInt(users.size()));
+                    issue.setAssignee(entityManager.getReference(User.class, assignee.getId()));
+                    issue.setReporter(entityManager.getReference(User.class, assignee.getId()));
+                    entityManager.persist(issue);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.dto.ProjectDTO;
+import com.issuetracker.mapper.IssueMapper;
+import com.issuetracker.mapper.IssueMapperImpl;
+import com.issuetracker.mapper.ProjectMapper;
+import com.issuetracker.mapper.ProjectMapperImpl;
+import com.issuetracker.mapper.UserMapper;
+import com.issuetracker.mapper.UserMapperImpl;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Issue.IssueType;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Role;
+import com.issuetracker.model.Team;
+import com.issuetracker.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO mapping on the list endpoints' hot path. Entities are fully populated, as after a fetch join.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final IssueMapper issueMapper = new IssueMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private Issue issue;
+    private Project project;
+    private Set<Role> roles;
+
+    @Setup
+    public void setUp() {
+        User lead = User.builder().id(1L).username("lead").email("lead@example.com").password("x").build();
+        User dev = User.builder().id(2L).username("dev").email("dev@example.com").password("x").build();
+        project = Project.builder()
+                .id(1L)
+                .name("Benchmark")
+                .key("BENCH")
+                .description("Project used by the mapper benchmark")
+                .team(Team.builder().id(1L).name("Core").build())
+                .lead(lead)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        issue = new Issue();
+        issue.setId(42L);
+        issue.setTitle("Login fails after password reset");
+        issue.setDescription("Steps to reproduce: reset the password, log in with the new one, get a 401.");
+        issue.setType(IssueType.BUG);
+        issue.setStatus(IssueStatus.IN_PROGRESS);
+        issue.setPriority(IssuePriority.HIGH);
+        issue.setCreatedAt(LocalDateTime.now());
+        issue.setDueDate(LocalDateTime.now().plusDays(7));
+        issue.setProject(project);
+        issue.setAssignee(dev);
+        issue.setReporter(lead);
+
+        roles = Set.of(Role.builder().id(1L).name("ADMIN").build(),
+                Role.builder().id(2L).name("DEVELOPER").build(),
+                Role.builder().id(3L).name("VIEWER").build());
+    }
+
+    @Benchmark
+    public IssueDTO issueToDTO() {
+        return issueMapper.toDTO(issue);
+    }
+
+    @Benchmark
+    public ProjectDTO projectToDTO() {
+        return projectMapper.toDTO(project);
+    }
+
+    @Benchmark
+    public Set<String> userMapRoles() {
+        return userMapper.mapRoles(roles);
+    }
+}
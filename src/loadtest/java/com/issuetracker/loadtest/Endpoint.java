@@ -0,0 +1,37 @@
+package com.issuetracker.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Calls the load test can make, with their default share of the mix. Write endpoints move issues through
+ * the workflow: created issues are started and started issues completed by later calls.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Endpoint {
+
+    ISSUES_LIST("issues.list", 30),
+    ISSUES_LIST_BY_STATUS("issues.list-by-status", 10),
+    ISSUES_SEARCH("issues.search", 10),
+    ISSUES_TOP_PERFORMERS("issues.top-performers", 5),
+    ISSUES_CREATE("issues.create", 10),
+    ISSUES_START("issues.start", 5),
+    ISSUES_COMPLETE("issues.complete", 5),
+    PROJECTS_GET("projects.get", 10),
+    PROJECTS_SUMMARY("projects.summary", 5),
+    SPRINTS_BURNDOWN("sprints.burndown", 5),
+    SPRINTS_VELOCITY("sprints.velocity", 5);
+
+    private final String displayName;
+    private final int defaultWeight;
+
+    static Endpoint byName(String name) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.displayName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint: " + name));
+    }
+}
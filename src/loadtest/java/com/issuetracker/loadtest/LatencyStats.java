@@ -0,0 +1,52 @@
+package com.issuetracker.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples (nanoseconds) and error count of one endpoint. Keeps every sample, which is a few MB for
+ * a run of some minutes and gives exact percentiles.
+ */
+class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean ok) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    LatencyStats merge(LatencyStats other) {
+        LatencyStats merged = new LatencyStats();
+        merged.samples = Arrays.copyOf(samples, count + other.count);
+        System.arraycopy(other.samples, 0, merged.samples, count, other.count);
+        merged.count = count + other.count;
+        merged.errors = errors + other.errors;
+        return merged;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // Nearest-rank percentile in milliseconds
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,176 @@
+package com.issuetracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.loadtest.SyntheticDataGenerator.SeededData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load: each worker sends its next request as soon as the previous one returns, picking
+ * the endpoint by weight and the project, sprint or issue at random. Latencies are recorded per worker
+ * and merged at the end, so recording doesn't contend; calls made during the warmup are not recorded.
+ */
+@Slf4j
+class LoadDriver {
+
+    private static final String[] SEARCH_TERMS = {"timeout", "export", "dashboard", "search", "layout", "permission"};
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final SeededData data;
+    private final Endpoint[] weighted;
+
+    // Issues created (and then started) during the run, so the workflow calls have valid targets
+    private final Queue<Long> todo = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> inProgress = new ConcurrentLinkedQueue<>();
+
+    LoadDriver(String baseUrl, SeededData data, Map<Endpoint, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+        List<Endpoint> slots = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("The endpoint mix is empty");
+        }
+        this.weighted = slots.toArray(Endpoint[]::new);
+    }
+
+    Map<Endpoint, LatencyStats> run(int concurrency, Duration warmup, Duration duration) throws Exception {
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Map<Endpoint, LatencyStats>>> results = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                results.add(workers.submit(() -> work(recordFrom, end)));
+            }
+            Map<Endpoint, LatencyStats> merged = new EnumMap<>(Endpoint.class);
+            for (Future<Map<Endpoint, LatencyStats>> result : results) {
+                result.get().forEach((endpoint, stats) -> merged.merge(endpoint, stats, LatencyStats::merge));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Endpoint, LatencyStats> work(long recordFrom, long end) {
+        Map<Endpoint, LatencyStats> stats = new EnumMap<>(Endpoint.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+            Long issueId = null;
+            if (endpoint == Endpoint.ISSUES_START && (issueId = todo.poll()) == null
+                    || endpoint == Endpoint.ISSUES_COMPLETE && (issueId = inProgress.poll()) == null) {
+                endpoint = Endpoint.ISSUES_CREATE;
+            }
+
+            boolean ok;
+            String body = null;
+            try {
+                HttpResponse<String> response = client.send(request(endpoint, issueId, random),
+                        HttpResponse.BodyHandlers.ofString());
+                ok = response.statusCode() < 400;
+                body = response.body();
+                if (!ok && log.isDebugEnabled()) {
+                    log.debug("{} returned {}: {}", endpoint.getDisplayName(), response.statusCode(), body);
+                }
+            } catch (IOException e) {
+                ok = false;
+                log.debug("{} failed", endpoint.getDisplayName(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long elapsed = System.nanoTime() - now;
+
+            if (ok) {
+                advanceWorkflow(endpoint, issueId, body);
+            }
+            if (now >= recordFrom) {
+                stats.computeIfAbsent(endpoint, e -> new LatencyStats()).record(elapsed, ok);
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Endpoint endpoint, Long issueId, ThreadLocalRandom random) {
+        Long projectId = pick(data.projectIds(), random);
+        return switch (endpoint) {
+            case ISSUES_LIST -> get("/projects/" + projectId + "/issues?limit=50");
+            case ISSUES_LIST_BY_STATUS -> get("/projects/" + projectId + "/issues?limit=50&status=IN_PROGRESS");
+            case ISSUES_SEARCH -> get("/projects/" + projectId + "/issues/search?q="
+                    + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+            case ISSUES_TOP_PERFORMERS -> get("/issues/reports/top-performers?limit=10&from="
+                    + LocalDate.now().minusDays(90));
+            case ISSUES_CREATE -> HttpRequest.newBuilder(uri("/projects/" + projectId + "/issues"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load test issue\","
+                            + "\"description\":\"Created by the load test\",\"type\":\"TASK\",\"priority\":\"LOW\","
+                            + "\"projectId\":" + projectId + ",\"reporterId\":" + pick(data.userIds(), random) + "}"))
+                    .build();
+            case ISSUES_START -> put("/issues/" + issueId + "/start");
+            case ISSUES_COMPLETE -> put("/issues/" + issueId + "/complete");
+            case PROJECTS_GET -> get("/api/projects/" + projectId);
+            case PROJECTS_SUMMARY -> get("/api/projects/" + projectId + "/summary");
+            case SPRINTS_BURNDOWN -> get("/api/sprints/" + pick(data.sprintIds(), random) + "/burndown");
+            case SPRINTS_VELOCITY -> get("/api/sprints/project/" + projectId + "/velocity");
+        };
+    }
+
+    private void advanceWorkflow(Endpoint endpoint, Long issueId, String body) {
+        try {
+            switch (endpoint) {
+                case ISSUES_CREATE -> todo.add(objectMapper.readTree(body).get("id").asLong());
+                case ISSUES_START -> inProgress.add(issueId);
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unreadable response from {}", endpoint.getDisplayName(), e);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest put(String path) {
+        return HttpRequest.newBuilder(uri(path)).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
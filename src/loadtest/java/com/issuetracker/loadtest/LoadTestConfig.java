@@ -0,0 +1,110 @@
+package com.issuetracker.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load test settings, given as {@code --key=value} arguments:
+ * <ul>
+ *     <li>{@code base-url} - drive an already running app; when absent the app is started in-process on a random port</li>
+ *     <li>{@code jdbc-url}, {@code jdbc-user}, {@code jdbc-password} - database to seed (and to run the in-process app on).
+ *     Defaults to in-memory H2</li>
+ *     <li>{@code users}, {@code teams}, {@code projects}, {@code sprints-per-project}, {@code issues} - data volume</li>
+ *     <li>{@code concurrency}, {@code warmup}, {@code duration} - worker threads and ISO-8601 durations</li>
+ *     <li>{@code threads} - {@code platform} or {@code virtual} (Java 21) request threads for the in-process app</li>
+ *     <li>{@code pool-size} - Hikari pool size of the in-process app; defaults to the app's own setting</li>
+ *     <li>{@code mix} - endpoint weights, e.g. {@code issues.list=50,projects.summary=10}; unlisted endpoints get 0</li>
+ *     <li>{@code report} - JSON report path</li>
+ * </ul>
+ */
+record LoadTestConfig(String baseUrl,
+                      String jdbcUrl,
+                      String jdbcUser,
+                      String jdbcPassword,
+                      int users,
+                      int teams,
+                      int projects,
+                      int sprintsPerProject,
+                      long issues,
+                      int concurrency,
+                      boolean virtualThreads,
+                      Integer poolSize,
+                      Duration warmup,
+                      Duration duration,
+                      Map<Endpoint, Integer> mix,
+                      Path report) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        String jdbcUrl = values.getOrDefault("jdbc-url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;NON_KEYWORDS=KEY,MONTH;DB_CLOSE_DELAY=-1");
+        boolean h2 = jdbcUrl.startsWith("jdbc:h2:");
+        LoadTestConfig config = new LoadTestConfig(
+                values.remove("base-url"),
+                jdbcUrl,
+                values.getOrDefault("jdbc-user", h2 ? "sa" : "postgres"),
+                values.getOrDefault("jdbc-password", h2 ? "" : "postgres"),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("teams", "50")),
+                Integer.parseInt(values.getOrDefault("projects", "100")),
+                Integer.parseInt(values.getOrDefault("sprints-per-project", "12")),
+                Long.parseLong(values.getOrDefault("issues", "1000000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                parseThreads(values.getOrDefault("threads", "platform")),
+                values.containsKey("pool-size") ? Integer.valueOf(values.get("pool-size")) : null,
+                Duration.parse(values.getOrDefault("warmup", "PT30S")),
+                Duration.parse(values.getOrDefault("duration", "PT2M")),
+                values.containsKey("mix") ? parseMix(values.get("mix")) : defaultMix(),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.json")));
+
+        values.keySet().removeAll(Set.of("jdbc-url", "jdbc-user", "jdbc-password", "users", "teams", "projects",
+                "sprints-per-project", "issues", "concurrency", "threads", "pool-size", "warmup", "duration", "mix", "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return config;
+    }
+
+    boolean h2() {
+        return jdbcUrl.startsWith("jdbc:h2:");
+    }
+
+    private static boolean parseThreads(String threads) {
+        return switch (threads) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("Expected threads=platform or threads=virtual but got: " + threads);
+        };
+    }
+
+    private static Map<Endpoint, Integer> defaultMix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, endpoint.getDefaultWeight());
+        }
+        return mix;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected name=weight in mix but got: " + entry);
+            }
+            mix.put(Endpoint.byName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,129 @@
+package com.issuetracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.issuetracker.IssueTrackerApplication;
+import com.issuetracker.loadtest.SyntheticDataGenerator.SeededData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds a synthetic data set, drives a weighted mix of HTTP calls against the app and reports throughput
+ * and latency percentiles per endpoint. See {@link LoadTestConfig} for the options; run it with
+ * {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="..."}.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ConfigurableApplicationContext context = config.baseUrl() == null ? startApplication(config) : null;
+        try {
+            String baseUrl = context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : config.baseUrl();
+            DataSource dataSource = context != null
+                    ? context.getBean(DataSource.class)
+                    : new DriverManagerDataSource(config.jdbcUrl(), config.jdbcUser(), config.jdbcPassword());
+
+            SeededData data = new SyntheticDataGenerator(dataSource).seedIfAbsent(config);
+
+            log.info("Driving {} with {} workers: {} warmup, {} measured", baseUrl, config.concurrency(),
+                    config.warmup(), config.duration());
+            Map<Endpoint, LatencyStats> results = new LoadDriver(baseUrl, data, config.mix())
+                    .run(config.concurrency(), config.warmup(), config.duration());
+
+            report(config, results);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + config.jdbcUrl(),
+                "--spring.datasource.username=" + config.jdbcUser(),
+                "--spring.datasource.password=" + config.jdbcPassword(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                "--logging.level.com.issuetracker.loadtest=INFO"));
+        List<String> profiles = new ArrayList<>();
+        if (config.h2()) {
+            // H2 has no Flyway migrations, the test profile creates the schema from the entities instead
+            profiles.add("test");
+        }
+        if (config.virtualThreads()) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("threads=virtual needs Java 21, this is Java " + Runtime.version().feature());
+            }
+            profiles.add("virtual-threads");
+        }
+        if (!profiles.isEmpty()) {
+            args.add("--spring.profiles.active=" + String.join(",", profiles));
+        }
+        if (config.poolSize() != null) {
+            args.add("--spring.datasource.hikari.maximum-pool-size=" + config.poolSize());
+            args.add("--spring.datasource.hikari.minimum-idle=" + config.poolSize());
+        }
+        // Devtools would restart the app in a new class loader and re-run this main method
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(IssueTrackerApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(args.toArray(String[]::new));
+    }
+
+    private static void report(LoadTestConfig config, Map<Endpoint, LatencyStats> results) throws Exception {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Map<String, Object>> endpoints = new LinkedHashMap<>();
+        StringBuilder table = new StringBuilder(String.format("%n%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (Map.Entry<Endpoint, LatencyStats> entry : results.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", stats.count());
+            row.put("errors", stats.errors());
+            row.put("throughput", stats.count() / seconds);
+            row.put("p50", stats.percentileMillis(50));
+            row.put("p90", stats.percentileMillis(90));
+            row.put("p99", stats.percentileMillis(99));
+            row.put("max", stats.percentileMillis(100));
+            endpoints.put(entry.getKey().getDisplayName(), row);
+            total += stats.count();
+            table.append(String.format("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().getDisplayName(), stats.count(), stats.errors(), stats.count() / seconds,
+                    row.get("p50"), row.get("p90"), row.get("p99"), row.get("max")));
+        }
+        table.append(String.format("%-24s %9d %7s %9.1f%n", "total", total, "", total / seconds));
+        log.info(table.toString());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", config.concurrency());
+        report.put("threads", config.virtualThreads() ? "virtual" : "platform");
+        report.put("poolSize", config.poolSize());
+        report.put("durationSeconds", seconds);
+        report.put("issues", config.issues());
+        report.put("totalThroughput", total / seconds);
+        report.put("endpoints", endpoints);
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+        log.info("Report written to {}", config.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,207 @@
+package com.issuetracker.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds users, teams, projects, sprints, issues and their status history with bulk SQL that runs on both
+ * PostgreSQL and H2. Issues and history are generated server-side with {@code INSERT ... SELECT} over
+ * {@code generate_series}, in id-range chunks, so millions of rows take minutes rather than hours.
+ * Attributes are spread deterministically with modular arithmetic, so runs are comparable.
+ *
+ * Seeded rows carry an "lt" prefix; if they already exist they are reused instead of seeded again. Issue and
+ * history ids are reserved from their sequences, so seed before the app under test starts writing.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class SyntheticDataGenerator {
+
+    private static final int ISSUE_CHUNK = 100_000;
+    private static final long CREATED_SPAN_MINUTES = 2L * 365 * 24 * 60;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SyntheticDataGenerator(DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    SeededData seedIfAbsent(LoadTestConfig config) {
+        SeededData existing = load();
+        if (!existing.userIds().isEmpty()) {
+            log.info("Reusing seeded data: {} users, {} projects, {} sprints",
+                    existing.userIds().size(), existing.projectIds().size(), existing.sprintIds().size());
+            return existing;
+        }
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 1; u <= config.users(); u++) {
+            users.add(new Object[]{"lt_user_" + u, "lt_user_" + u + "@example.com", "Load" + u, "Tester" + u, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password, first_name, last_name, active, " +
+                "created_at, updated_at) VALUES (?, ?, 'x', ?, ?, TRUE, ?, ?)", users);
+        List<Long> userIds = ids("SELECT id FROM users WHERE username LIKE 'lt\\_user\\_%' ORDER BY id");
+
+        List<Object[]> teams = new ArrayList<>();
+        for (int t = 1; t <= config.teams(); t++) {
+            teams.add(new Object[]{"lt_team_" + t, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name, created_at, updated_at) VALUES (?, ?, ?)", teams);
+        List<Long> teamIds = ids("SELECT id FROM teams WHERE name LIKE 'lt\\_team\\_%' ORDER BY id");
+
+        List<Object[]> members = new ArrayList<>();
+        for (int u = 0; u < userIds.size(); u++) {
+            members.add(new Object[]{teamIds.get(u % teamIds.size()), userIds.get(u), now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO team_members (team_id, user_id, role, joined_at) " +
+                "VALUES (?, ?, 'MEMBER', ?)", members);
+
+        List<Object[]> projects = new ArrayList<>();
+        for (int p = 1; p <= config.projects(); p++) {
+            projects.add(new Object[]{"Load test project " + p, "LT" + p, teamIds.get(p % teamIds.size()),
+                    userIds.get(p % userIds.size()), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (name, key, team_id, lead_id, created_at, updated_at, " +
+                "version) VALUES (?, ?, ?, ?, ?, ?, 0)", projects);
+        List<Long> projectIds = ids("SELECT id FROM projects WHERE key LIKE 'LT%' ORDER BY id");
+
+        // Back-to-back two-week sprints per project, the last one running today
+        LocalDate firstStart = LocalDate.now().minusWeeks(2L * (config.sprintsPerProject() - 1));
+        List<Object[]> sprints = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            for (int s = 0; s < config.sprintsPerProject(); s++) {
+                LocalDate start = firstStart.plusWeeks(2L * s);
+                sprints.add(new Object[]{"Sprint " + (s + 1), Date.valueOf(start), Date.valueOf(start.plusDays(13)),
+                        projectId, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO sprints (name, start_date, end_date, project_id, created_at, " +
+                "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)", sprints);
+        List<Long> sprintIds = ids("SELECT s.id FROM sprints s JOIN projects p ON p.id = s.project_id " +
+                "WHERE p.key LIKE 'LT%' ORDER BY s.project_id, s.start_date");
+
+        requireContiguous("users", userIds);
+        requireContiguous("projects", projectIds);
+        requireContiguous("sprints", sprintIds);
+        seedIssues(config, userIds.get(0), projectIds.get(0), sprintIds.get(0), now);
+        jdbcTemplate.execute("ANALYZE");
+
+        log.info("Seeded {} users, {} teams, {} projects, {} sprints and {} issues in {}s", userIds.size(),
+                teamIds.size(), projectIds.size(), sprintIds.size(), config.issues(),
+                (System.nanoTime() - started) / 1_000_000_000);
+        return new SeededData(userIds, projectIds, sprintIds);
+    }
+
+    SeededData load() {
+        return new SeededData(
+                ids("SELECT id FROM users WHERE username LIKE 'lt\\_user\\_%' ORDER BY id"),
+                ids("SELECT id FROM projects WHERE key LIKE 'LT%' ORDER BY id"),
+                ids("SELECT s.id FROM sprints s JOIN projects p ON p.id = s.project_id " +
+                    "WHERE p.key LIKE 'LT%' ORDER BY s.project_id, s.start_date"));
+    }
+
+    private void seedIssues(LoadTestConfig config, long userBase, long projectBase, long sprintBase,
+                            LocalDateTime now) {
+        long issues = config.issues();
+        long issueBase = reserve("issue_seq", issues);
+        long historyBase = reserve("issue_history_seq", 2 * issues);
+        LocalDateTime createdFrom = now.minusMinutes(CREATED_SPAN_MINUTES).minusWeeks(1);
+        int projects = config.projects();
+        int sprints = config.sprintsPerProject();
+
+        // n runs from 1 and picks the project; k = n / projects numbers the issues within a project and spreads
+        // status (30% TODO, 20% IN_PROGRESS, 50% DONE), type, priority and sprint independently of the project
+        String status = "CASE WHEN MOD(k * 7, 10) < 3 THEN 'TODO' WHEN MOD(k * 7, 10) < 5 THEN 'IN_PROGRESS' ELSE 'DONE' END";
+        String created = "TIMESTAMP '" + timestamp(createdFrom) + "' + INTERVAL '1' MINUTE * MOD(n * 7919, " +
+                CREATED_SPAN_MINUTES + ")";
+        for (long from = 0; from < issues; from += ISSUE_CHUNK) {
+            long to = Math.min(from + ISSUE_CHUNK, issues);
+            jdbcTemplate.update("INSERT INTO issue (id, title, description, type, status, priority, created_at, " +
+                    "completed_at, version, project_id, sprint_id, assignee_id, reporter_id) " +
+                    "SELECT " + issueBase + " + n, " +
+                    "CASE MOD(n, 6) WHEN 0 THEN 'Login timeout' WHEN 1 THEN 'Export fails' WHEN 2 THEN 'Dashboard slow' " +
+                    "WHEN 3 THEN 'Search misses results' WHEN 4 THEN 'Layout broken' ELSE 'Permission denied' END " +
+                    "|| ' #' || n, " +
+                    "'Synthetic issue ' || n || ' seeded for load testing', " +
+                    "CASE MOD(k, 3) WHEN 0 THEN 'TASK' WHEN 1 THEN 'BUG' ELSE 'STORY' END, " +
+                    status + ", " +
+                    "CASE MOD(k / 3, 3) WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' ELSE 'HIGH' END, " +
+                    created + ", " +
+                    "CASE WHEN MOD(k * 7, 10) >= 5 THEN " + created + " + INTERVAL '3' DAY END, " +
+                    "0, " +
+                    projectBase + " + MOD(n, " + projects + "), " +
+                    "CASE WHEN MOD(k / 10, 10) < 4 THEN " + sprintBase + " + MOD(n, " + projects + ") * " + sprints +
+                    " + MOD(k / 7, " + sprints + ") END, " +
+                    "CASE WHEN MOD(n * 3, 10) < 8 THEN " + userBase + " + MOD(n * 31, " + config.users() + ") END, " +
+                    userBase + " + MOD(n * 17, " + config.users() + ") " +
+                    "FROM (SELECT n, n / " + projects + " AS k FROM generate_series(CAST(" + (from + 1) + " AS BIGINT), " +
+                    "CAST(" + to + " AS BIGINT)) AS s(n)) g");
+
+            jdbcTemplate.update("INSERT INTO issue_history (id, issue_id, old_status, new_status, changed_at) " +
+                    "SELECT " + historyBase + " + 2 * (i.id - " + issueBase + ") - 1, i.id, 'TODO', 'IN_PROGRESS', " +
+                    "i.created_at + INTERVAL '1' DAY FROM issue i " +
+                    "WHERE i.id > " + (issueBase + from) + " AND i.id <= " + (issueBase + to) + " AND i.status <> 'TODO'");
+            jdbcTemplate.update("INSERT INTO issue_history (id, issue_id, old_status, new_status, changed_at) " +
+                    "SELECT " + historyBase + " + 2 * (i.id - " + issueBase + "), i.id, 'IN_PROGRESS', 'DONE', " +
+                    "i.completed_at FROM issue i " +
+                    "WHERE i.id > " + (issueBase + from) + " AND i.id <= " + (issueBase + to) + " AND i.status = 'DONE'");
+            log.info("Seeded {} of {} issues", to, issues);
+        }
+
+        // Rollups the app maintains incrementally, computed once for the seeded projects
+        String seededProjects = "project_id BETWEEN " + projectBase + " AND " + (projectBase + projects - 1);
+        jdbcTemplate.update("INSERT INTO project_issue_counter (project_id, dimension, bucket, issue_count) " +
+                "SELECT project_id, 'STATUS', COALESCE(CAST(status AS VARCHAR(20)), 'NONE'), COUNT(*) FROM issue WHERE " + seededProjects +
+                " GROUP BY project_id, status " +
+                "UNION ALL SELECT project_id, 'PRIORITY', COALESCE(CAST(priority AS VARCHAR(20)), 'NONE'), COUNT(*) FROM issue WHERE " +
+                seededProjects + " GROUP BY project_id, priority " +
+                "UNION ALL SELECT project_id, 'TYPE', COALESCE(CAST(type AS VARCHAR(20)), 'NONE'), COUNT(*) FROM issue WHERE " +
+                seededProjects + " GROUP BY project_id, type " +
+                "UNION ALL SELECT project_id, 'ASSIGNEE', COALESCE(CAST(assignee_id AS VARCHAR(20)), 'UNASSIGNED'), " +
+                "COUNT(*) FROM issue WHERE " + seededProjects + " GROUP BY project_id, assignee_id");
+        jdbcTemplate.update("INSERT INTO user_daily_closed (user_id, project_id, closed_on, closed_count) " +
+                "SELECT assignee_id, project_id, CAST(completed_at AS DATE), COUNT(*) FROM issue " +
+                "WHERE " + seededProjects + " AND status = 'DONE' AND assignee_id IS NOT NULL " +
+                "GROUP BY assignee_id, project_id, CAST(completed_at AS DATE)");
+    }
+
+    /**
+     * Takes a block of count ids from a pooled sequence (increment 50) and moves the sequence past it.
+     * Returns the base; the block is base + 1 .. base + count.
+     */
+    private long reserve(String sequence, long count) {
+        Long current = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        long base = current == null ? 0 : current;
+        // The pooled optimizer hands out (value - 49 .. value), so the next value must be a full block above
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (base + count + 50));
+        return base;
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    // Issues reference users, projects and sprints by base + offset
+    private static void requireContiguous(String table, List<Long> ids) {
+        if (ids.get(ids.size() - 1) - ids.get(0) + 1 != ids.size()) {
+            throw new IllegalStateException("Seeded " + table + " ids are not contiguous; seed into an idle database");
+        }
+    }
+
+    private static String timestamp(LocalDateTime value) {
+        return value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    record SeededData(List<Long> userIds, List<Long> projectIds, List<Long> sprintIds) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.issuetracker.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Spring caches are Caffeine (spring.cache.*); Hibernate's entity and query caches are configured in application.conf
+@Configuration
+@EnableCaching
+public class CachingConfig {
+
+    public static final String SPRINT_BURNDOWNS = "sprintBurndowns";
+}
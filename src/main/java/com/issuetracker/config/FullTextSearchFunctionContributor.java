@@ -0,0 +1,47 @@
+package com.issuetracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL functions used by issue text search:
+ * <ul>
+ *     <li>{@code fts_match(title, description, query)} - true when the issue matches the query</li>
+ *     <li>{@code fts_rank(title, description, query)} - relevance score, higher is better</li>
+ * </ul>
+ * On PostgreSQL these render to a weighted tsvector expression that is identical to the one
+ * indexed by {@code idx_issue_fulltext} (V7 migration), so the planner can use the GIN index.
+ * Other databases (H2 in tests) fall back to a case-insensitive substring match.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    // Must stay in sync with the expression of idx_issue_fulltext
+    private static final String ISSUE_VECTOR = "(setweight(to_tsvector('english', coalesce(?1, '')), 'A')"
+            + " || setweight(to_tsvector('english', coalesce(?2, '')), 'B'))";
+
+    private static final String QUERY = "websearch_to_tsquery('english', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+            registry.registerPattern("fts_match", "(" + ISSUE_VECTOR + " @@ " + QUERY + ")", booleanType);
+            registry.registerPattern("fts_rank", "ts_rank(" + ISSUE_VECTOR + ", " + QUERY + ")", doubleType);
+        } else {
+            String titleMatch = "lower(?1) like lower('%' || ?3 || '%')";
+            String descriptionMatch = "lower(cast(?2 as varchar)) like lower('%' || ?3 || '%')";
+            registry.registerPattern("fts_match", "(" + titleMatch + " or " + descriptionMatch + ")", booleanType);
+            // Title hits rank above description-only hits, mirroring the A/B weights used on PostgreSQL
+            registry.registerPattern("fts_rank", "(case when " + titleMatch + " then 1.0 else 0.5 end)", doubleType);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Statement inspection (sampled SQL logging, per-request statement counts); plain Hibernate settings are under
+// spring.jpa.properties
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(SampledSqlLogger sampledSqlLogger) {
+        StatementInspector inspector = sql -> {
+            SqlStatementCounter.record(sql);
+            return sampledSqlLogger.inspect(sql);
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${issuetracker.sql-budget.max-statements:30}") int maxStatements,
+            @Value("${issuetracker.sql-budget.repeat-threshold:5}") int repeatThreshold) {
+        FilterRegistrationBean<StatementBudgetFilter> registration = new FilterRegistrationBean<>(
+                new StatementBudgetFilter(meterRegistry, maxStatements, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,46 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Picks the pool for a connection from the current transaction: read-only transactions get the replica, or the
+ * primary while the thread is pinned by a recent write; everything else gets the primary. Counts the choice for
+ * read-only transactions as issuetracker.datasource.reads, tagged by pool. Sits behind a lazy connection proxy,
+ * so the choice is made at the first statement, once the transaction's read-only flag is bound.
+ */
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    ReadOnlyRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+        this.primaryReads = meterRegistry.counter("issuetracker.datasource.reads", "pool", PRIMARY);
+        this.replicaReads = meterRegistry.counter("issuetracker.datasource.reads", "pool", REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (ReplicaRoutingContext.pinnedToPrimary()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return REPLICA;
+    }
+}
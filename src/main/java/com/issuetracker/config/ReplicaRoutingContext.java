@@ -0,0 +1,52 @@
+package com.issuetracker.config;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * Read-your-writes state of the current thread: until when its read-only transactions must stay on the
+ * primary because a write it made (or, through {@link ReadYourWritesFilter}, its client made) may not have
+ * reached the replica yet. Times are epoch milliseconds so they can travel in a cookie.
+ */
+final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    static void begin(long primaryUntil, LongConsumer onWrite) {
+        CURRENT.set(new Scope(primaryUntil, onWrite));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean pinnedToPrimary() {
+        Scope scope = CURRENT.get();
+        return scope != null && System.currentTimeMillis() < scope.primaryUntil;
+    }
+
+    // Outside a request (scheduled jobs) the pin stays on the thread; it expires with the lag guard anyway
+    static void writeCommitted(Duration lagGuard) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            scope = new Scope(0, until -> { });
+            CURRENT.set(scope);
+        }
+        scope.primaryUntil = System.currentTimeMillis() + lagGuard.toMillis();
+        scope.onWrite.accept(scope.primaryUntil);
+    }
+
+    private static final class Scope {
+
+        private long primaryUntil;
+        private final LongConsumer onWrite;
+
+        private Scope(long primaryUntil, LongConsumer onWrite) {
+            this.primaryUntil = primaryUntil;
+            this.onWrite = onWrite;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.issuetracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.retry.annotation.EnableRetry;
+
+// Retry advice must wrap the transaction advice so every attempt re-reads the issue in a fresh transaction
+@Configuration
+@EnableRetry(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class RetryConfig {
+}
@@ -0,0 +1,65 @@
+package com.issuetracker.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}, grouped by SQL text. Hibernate SQL carries bind markers rather than values, so a
+ * statement repeated with different ids (the N+1 pattern) groups under one entry. JDBC batches count once
+ * per prepared statement; plain JdbcTemplate statements are not seen.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    // Returns null when counting has already started on this thread, so nested callers leave it to the outer one
+    public static Statements start() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        Statements statements = new Statements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.record(sql);
+        }
+    }
+
+    public static final class Statements {
+
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int total;
+
+        private void record(String sql) {
+            bySql.merge(sql, 1, Integer::sum);
+            total++;
+        }
+
+        public int total() {
+            return total;
+        }
+
+        // Statements executed at least threshold times, most frequent first
+        public Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            bySql.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.issuetracker.config;
+
+import com.issuetracker.config.SqlStatementCounter.Statements;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements of each HTTP request and records them as issuetracker.sql.statements, tagged
+ * by method and uri pattern. A request over issuetracker.sql-budget.max-statements is logged and counted as
+ * issuetracker.sql.budget.exceeded; a statement repeated issuetracker.sql-budget.repeat-threshold times or
+ * more within one request (usually a lazy association loaded per row) is logged and counted as
+ * issuetracker.sql.repeated.statements. The counts are left in the {@link #STATEMENTS_ATTRIBUTE} request
+ * attribute for tests to assert on. Registered by {@link HibernateConfig}.
+ */
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_ATTRIBUTE = StatementBudgetFilter.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int repeatThreshold;
+
+    public StatementBudgetFilter(MeterRegistry meterRegistry, int maxStatements, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Statements statements = SqlStatementCounter.start();
+        if (statements == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.stop();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+            check(request, statements);
+        }
+    }
+
+    private void check(HttpServletRequest request, Statements statements) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("issuetracker.sql.statements")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements.total());
+
+        if (statements.total() > maxStatements) {
+            log.warn("{} {} ran {} SQL statements, over the budget of {}", method, request.getRequestURI(),
+                    statements.total(), maxStatements);
+            meterRegistry.counter("issuetracker.sql.budget.exceeded", "method", method, "uri", uri).increment();
+        }
+        for (Map.Entry<String, Integer> repeated : statements.repeated(repeatThreshold).entrySet()) {
+            log.warn("{} {} ran the same statement {} times, possible N+1: {}", method, request.getRequestURI(),
+                    repeated.getValue(), repeated.getKey());
+            meterRegistry.counter("issuetracker.sql.repeated.statements", "method", method, "uri", uri).increment();
+        }
+    }
+}
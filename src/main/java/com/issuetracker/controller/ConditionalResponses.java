@@ -0,0 +1,25 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.service.EntityTags;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GETs: a 304 with the ETag when If-None-Match holds it, so the DTO is neither mapped nor
+ * serialized; otherwise a 200 with the body and the ETag. Collection tags have to be computed before the
+ * collection is read, so a concurrent change can only leave the tag older than the body, never newer.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> ok(String ifNoneMatch, String eTag, Supplier<T> body) {
+        if (EntityTags.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
+}
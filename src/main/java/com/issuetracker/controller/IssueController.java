@@ -4,22 +4,47 @@ import com.issuetracker.model.Issue;
 import com.issuetracker.model.Issue.IssueStatus;
 import com.issuetracker.model.IssueComment;
 import com.issuetracker.model.User;
+import com.issuetracker.service.EntityTags;
 import com.issuetracker.service.UserService;
+import com.issuetracker.service.IssueChangeFeed;
+import com.issuetracker.service.IssueExportService;
+import com.issuetracker.service.IssueHistoryService;
+import com.issuetracker.service.IssueTimelineService;
+import com.issuetracker.service.IssueImportService;
 import com.issuetracker.service.IssueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.BatchTransitionRequest;
+import com.issuetracker.dto.BatchTransitionResult;
+import com.issuetracker.dto.BulkImportLineResult;
 import com.issuetracker.dto.CommentDTO;
 import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.dto.CursorPage;
 import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.dto.TimelineEntryDTO;
+import com.issuetracker.dto.TopPerformerDTO;
 import com.issuetracker.mapper.IssueCommentMapper;
 import com.issuetracker.mapper.IssueMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping
@@ -31,6 +56,12 @@ public class IssueController {
     private final UserService userService;
     private final IssueMapper issueMapper;
     private final IssueCommentMapper commentMapper;
+    private final IssueImportService importService;
+    private final IssueExportService exportService;
+    private final IssueHistoryService historyService;
+    private final IssueTimelineService timelineService;
+    private final IssueChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/projects/{projectId}/issues")
     @ResponseStatus(HttpStatus.CREATED)
@@ -44,35 +75,95 @@ public class IssueController {
         return issueMapper.toDTO(savedIssue);
     }
 
+    @PostMapping(value = "/projects/{projectId}/issues:bulk",
+            consumes = "application/x-ndjson")
+    @Operation(summary = "Bulk import issues from NDJSON, one CreateIssueRequest per line; streams back one result per line")
+    public void bulkImportIssues(@PathVariable Long projectId, InputStream body,
+            HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        OutputStream out = response.getOutputStream();
+        importService.importIssues(projectId, body, result -> writeLine(out, result));
+        out.flush();
+    }
+
+    @GetMapping("/issues/{id}")
+    @Operation(summary = "Get an issue; answers 304 when If-None-Match holds its current ETag")
+    public ResponseEntity<IssueDTO> getIssue(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return issueService.getIssueById(id)
+                .map(issue -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(issue), () -> issueMapper.toDTO(issue)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PutMapping("/issues/{id}/start")
-    @Operation(summary = "Start progress on an issue (TODO -> IN_PROGRESS)")
-    public IssueDTO startIssue(@PathVariable Long id) {
-        return issueMapper.toDTO(issueService.startIssue(id));
+    @Operation(summary = "Start progress on an issue (TODO -> IN_PROGRESS); If-Match guards against lost updates")
+    public ResponseEntity<IssueDTO> startIssue(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return tagged(issueService.startIssue(id, ifMatch));
     }
 
     @PutMapping("/issues/{id}/complete")
-    @Operation(summary = "Complete an issue (IN_PROGRESS -> DONE)")
-    public IssueDTO completeIssue(@PathVariable Long id) {
-        return issueMapper.toDTO(issueService.completeIssue(id));
+    @Operation(summary = "Complete an issue (IN_PROGRESS -> DONE); If-Match guards against lost updates")
+    public ResponseEntity<IssueDTO> completeIssue(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return tagged(issueService.completeIssue(id, ifMatch));
     }
 
     @PutMapping("/issues/{id}/assign")
-    @Operation(summary = "Assign an issue to a user")
-    public IssueDTO assignIssue(@PathVariable Long id, @RequestParam Long userId) {
+    @Operation(summary = "Assign an issue to a user; If-Match guards against lost updates")
+    public ResponseEntity<IssueDTO> assignIssue(@PathVariable Long id, @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User assignee = userService.getUserById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
 
-        return issueMapper.toDTO(issueService.assignIssue(id, assignee));
+        return tagged(issueService.assignIssue(id, assignee, ifMatch));
+    }
+
+    @PutMapping("/issues:batch-transition")
+    @Operation(summary = "Assign and/or transition many issues at once; reports the outcome per issue")
+    public List<BatchTransitionResult> batchTransition(@Valid @RequestBody BatchTransitionRequest request) {
+        return issueService.batchTransition(request.getIssueIds(), request.getStatus(), request.getAssigneeId());
     }
 
     @GetMapping("/projects/{projectId}/issues")
-    @Operation(summary = "Search issues in a project")
-    public List<IssueDTO> searchIssues(@PathVariable Long projectId,
+    @Operation(summary = "Search issues in a project, newest first, one page at a time")
+    public CursorPage<IssueDTO> searchIssues(@PathVariable Long projectId,
+            @RequestParam(required = false) IssueStatus status,
+            @RequestParam(required = false) String text,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return issueService.searchIssues(projectId, status, text, cursor, limit);
+    }
+
+    @GetMapping(value = "/projects/{projectId}/issues/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow issue changes in a project as Server-Sent Events; reconnects resume from Last-Event-ID")
+    public SseEmitter streamIssueChanges(@PathVariable Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(projectId, lastEventId);
+    }
+
+    @GetMapping("/projects/{projectId}/issues/search")
+    @Operation(summary = "Full-text search issues in a project, best matches first")
+    public List<IssueDTO> searchIssuesRanked(@PathVariable Long projectId,
+            @RequestParam String q,
             @RequestParam(required = false) IssueStatus status,
-            @RequestParam(required = false) String text) {
-        return issueService.searchIssues(projectId, status, text).stream()
-                .map(issueMapper::toDTO)
-                .collect(Collectors.toList());
+            @RequestParam(defaultValue = "20") int limit) {
+        return issueService.searchIssuesRanked(projectId, status, q, limit);
+    }
+
+    @GetMapping("/projects/{projectId}/issues/export")
+    @Operation(summary = "Export all issues in a project as NDJSON or CSV, streamed")
+    public ResponseEntity<StreamingResponseBody> exportIssues(@PathVariable Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        IssueExportService.Format exportFormat = IssueExportService.Format.parse(format);
+        exportService.checkExportable(projectId);
+
+        StreamingResponseBody body = out -> exportService.exportIssues(projectId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + projectId + "-issues." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @PostMapping("/issues/{id}/comments")
@@ -88,9 +179,41 @@ public class IssueController {
         return commentMapper.toDTO(issueService.addComment(id, comment));
     }
 
+    @GetMapping("/issues/{id}/history")
+    @Operation(summary = "Get the change history of an issue, newest first, including archived months")
+    public List<IssueHistoryDTO> getIssueHistory(@PathVariable Long id) {
+        return historyService.getHistory(id);
+    }
+
+    @GetMapping("/issues/{id}/timeline")
+    @Operation(summary = "Get the comments and change history of an issue, oldest first, one page at a time")
+    public CursorPage<TimelineEntryDTO> getIssueTimeline(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return timelineService.getTimeline(id, cursor, limit);
+    }
+
     @GetMapping("/issues/reports/top-performers")
-    @Operation(summary = "Get top 5 users by closed issues in last 30 days")
-    public List<Object[]> getTopPerformers() {
-        return issueService.getTopPerformers();
+    @Operation(summary = "Get top users by issues closed in a date range (default: last 30 days)")
+    public List<TopPerformerDTO> getTopPerformers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "5") int limit) {
+        return issueService.getTopPerformers(from, to, projectId, limit);
+    }
+
+    // The transaction has committed, so the tag carries the new version
+    private ResponseEntity<IssueDTO> tagged(Issue issue) {
+        return ResponseEntity.ok().eTag(EntityTags.of(issue)).body(issueMapper.toDTO(issue));
+    }
+
+    private void writeLine(OutputStream out, BulkImportLineResult result) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
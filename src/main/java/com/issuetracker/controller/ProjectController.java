@@ -2,12 +2,17 @@ package com.issuetracker.controller;
 
 import com.issuetracker.dto.CreateProjectRequest;
 import com.issuetracker.dto.ProjectDTO;
-import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.dto.ProjectSummaryDTO;
 import com.issuetracker.mapper.ProjectMapper;
 import com.issuetracker.model.Project;
+import com.issuetracker.model.Team;
+import com.issuetracker.model.User;
+import com.issuetracker.service.ProjectIssueCounterService;
+import com.issuetracker.service.EntityTags;
 import com.issuetracker.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,26 +27,38 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
+    private final ProjectIssueCounterService counterService;
 
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        List<ProjectDTO> projects = projectService.getAllProjects().stream()
-                .map(projectMapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(ifNoneMatch,
+                EntityTags.of("projects", projectService.getCollectionVersion()),
+                () -> projectService.getAllProjects().stream()
+                        .map(projectMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return projectService.getProjectById(id)
-                .map(project -> ResponseEntity.ok(projectMapper.toDTO(project)))
+                .map(project -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(project),
+                        () -> projectMapper.toDTO(project)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<ProjectSummaryDTO> getProjectSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(counterService.getSummary(id));
+    }
+
     @GetMapping("/key/{key}")
-    public ResponseEntity<ProjectDTO> getProjectByKey(@PathVariable String key) {
+    public ResponseEntity<ProjectDTO> getProjectByKey(@PathVariable String key,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return projectService.getProjectByKey(key)
-                .map(project -> ResponseEntity.ok(projectMapper.toDTO(project)))
+                .map(project -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(project),
+                        () -> projectMapper.toDTO(project)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -65,20 +82,18 @@ public class ProjectController {
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CreateProjectRequest request) {
-        Project project = projectService.getProjectById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", id));
-        project.setName(request.getName());
-        project.setKey(request.getKey());
-        project.setDescription(request.getDescription());
-        Project updatedProject = projectService.updateProject(project);
-        if (request.getTeamId() != null) {
-            updatedProject = projectService.assignTeamToProject(updatedProject.getId(), request.getTeamId());
-        }
-        if (request.getLeadId() != null) {
-            updatedProject = projectService.assignLeadToProject(updatedProject.getId(), request.getLeadId());
-        }
-        return ResponseEntity.ok(projectMapper.toDTO(updatedProject));
+        Project changes = Project.builder()
+                .id(id)
+                .name(request.getName())
+                .key(request.getKey())
+                .description(request.getDescription())
+                .team(request.getTeamId() != null ? Team.builder().id(request.getTeamId()).build() : null)
+                .lead(request.getLeadId() != null ? User.builder().id(request.getLeadId()).build() : null)
+                .build();
+        Project updatedProject = projectService.updateProject(changes, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(updatedProject)).body(projectMapper.toDTO(updatedProject));
     }
 
     @DeleteMapping("/{id}")
@@ -97,11 +112,8 @@ public class ProjectController {
 
     @DeleteMapping("/{projectId}/team")
     public ResponseEntity<ProjectDTO> removeTeam(@PathVariable Long projectId) {
-        Project project = projectService.getProjectById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        project.setTeam(null);
-        Project updatedProject = projectService.updateProject(project);
-        return ResponseEntity.ok(projectMapper.toDTO(updatedProject));
+        Project project = projectService.removeTeamFromProject(projectId);
+        return ResponseEntity.ok(projectMapper.toDTO(project));
     }
 
     @PostMapping("/{projectId}/lead/{userId}")
@@ -114,11 +126,8 @@ public class ProjectController {
 
     @DeleteMapping("/{projectId}/lead")
     public ResponseEntity<ProjectDTO> removeLead(@PathVariable Long projectId) {
-        Project project = projectService.getProjectById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        project.setLead(null);
-        Project updatedProject = projectService.updateProject(project);
-        return ResponseEntity.ok(projectMapper.toDTO(updatedProject));
+        Project project = projectService.removeLeadFromProject(projectId);
+        return ResponseEntity.ok(projectMapper.toDTO(project));
     }
 
     @GetMapping("/team/{teamId}")
@@ -1,14 +1,18 @@
 package com.issuetracker.controller;
 
+import com.issuetracker.dto.BurndownDTO;
 import com.issuetracker.dto.CreateSprintRequest;
 import com.issuetracker.dto.SprintDTO;
-import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.dto.VelocityDTO;
 import com.issuetracker.mapper.SprintMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Sprint;
+import com.issuetracker.service.EntityTags;
+import com.issuetracker.service.SprintAnalyticsService;
 import com.issuetracker.service.SprintService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,22 +27,32 @@ public class SprintController {
 
     private final SprintService sprintService;
     private final SprintMapper sprintMapper;
+    private final SprintAnalyticsService analyticsService;
 
     @GetMapping
-    public ResponseEntity<List<SprintDTO>> getAllSprints() {
-        List<SprintDTO> sprints = sprintService.getAllSprints().stream()
-                .map(sprintMapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(sprints);
+    public ResponseEntity<List<SprintDTO>> getAllSprints(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(ifNoneMatch,
+                EntityTags.of("sprints", sprintService.getCollectionVersion()),
+                () -> sprintService.getAllSprints().stream()
+                        .map(sprintMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SprintDTO> getSprintById(@PathVariable Long id) {
+    public ResponseEntity<SprintDTO> getSprintById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return sprintService.getSprintById(id)
-                .map(sprint -> ResponseEntity.ok(sprintMapper.toDTO(sprint)))
+                .map(sprint -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(sprint),
+                        () -> sprintMapper.toDTO(sprint)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/burndown")
+    public ResponseEntity<BurndownDTO> getBurndown(@PathVariable Long id) {
+        return ResponseEntity.ok(analyticsService.getBurndown(id));
+    }
+
     @PostMapping
     public ResponseEntity<SprintDTO> createSprint(@Valid @RequestBody CreateSprintRequest request) {
         Project project = Project.builder()
@@ -57,18 +71,20 @@ public class SprintController {
     @PutMapping("/{id}")
     public ResponseEntity<SprintDTO> updateSprint(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CreateSprintRequest request) {
-        Sprint sprint = sprintService.getSprintById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Sprint", id));
         Project project = Project.builder()
                 .id(request.getProjectId())
                 .build();
-        sprint.setName(request.getName());
-        sprint.setStartDate(request.getStartDate());
-        sprint.setEndDate(request.getEndDate());
-        sprint.setProject(project);
-        Sprint updatedSprint = sprintService.updateSprint(sprint);
-        return ResponseEntity.ok(sprintMapper.toDTO(updatedSprint));
+        Sprint changes = Sprint.builder()
+                .id(id)
+                .name(request.getName())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .project(project)
+                .build();
+        Sprint updatedSprint = sprintService.updateSprint(changes, ifMatch);
+        return ResponseEntity.ok().eTag(EntityTags.of(updatedSprint)).body(sprintMapper.toDTO(updatedSprint));
     }
 
     @DeleteMapping("/{id}")
@@ -78,11 +94,19 @@ public class SprintController {
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<SprintDTO>> getSprintsByProject(@PathVariable Long projectId) {
-        List<SprintDTO> sprints = sprintService.getSprintsByProject(projectId).stream()
-                .map(sprintMapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(sprints);
+    public ResponseEntity<List<SprintDTO>> getSprintsByProject(@PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(ifNoneMatch,
+                EntityTags.of("project-" + projectId + "-sprints", sprintService.getCollectionVersionByProject(projectId)),
+                () -> sprintService.getSprintsByProject(projectId).stream()
+                        .map(sprintMapper::toDTO)
+                        .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/project/{projectId}/velocity")
+    public ResponseEntity<VelocityDTO> getVelocity(@PathVariable Long projectId,
+                                                   @RequestParam(defaultValue = "6") int limit) {
+        return ResponseEntity.ok(analyticsService.getVelocity(projectId, limit));
     }
 
     @GetMapping("/project/{projectId}/active")
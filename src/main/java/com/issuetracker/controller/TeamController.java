@@ -8,9 +8,11 @@ import com.issuetracker.mapper.TeamMapper;
 import com.issuetracker.mapper.TeamMemberMapper;
 import com.issuetracker.model.Team;
 import com.issuetracker.model.TeamMember;
+import com.issuetracker.service.EntityTags;
 import com.issuetracker.service.TeamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,17 +30,20 @@ public class TeamController {
     private final TeamMemberMapper teamMemberMapper;
 
     @GetMapping
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
-        List<TeamDTO> teams = teamService.getAllTeams().stream()
-                .map(teamMapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(teams);
+    public ResponseEntity<List<TeamDTO>> getAllTeams(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(ifNoneMatch,
+                EntityTags.of("teams", teamService.getCollectionVersion()),
+                () -> teamService.getAllTeams().stream()
+                        .map(teamMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id) {
+    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return teamService.getTeamById(id)
-                .map(team -> ResponseEntity.ok(teamMapper.toDTO(team)))
+                .map(team -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(team), () -> teamMapper.toDTO(team)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -6,10 +6,12 @@ import com.issuetracker.dto.UserDTO;
 import com.issuetracker.mapper.RoleMapper;
 import com.issuetracker.mapper.UserMapper;
 import com.issuetracker.model.User;
+import com.issuetracker.service.EntityTags;
 import com.issuetracker.service.RoleService;
 import com.issuetracker.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,11 +30,13 @@ public class UserController {
     private final RoleMapper roleMapper;
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        List<UserDTO> users = userService.getAllUsers().stream()
-                .map(userMapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.ok(ifNoneMatch,
+                EntityTags.of("users", userService.getCollectionVersion()),
+                () -> userService.getAllUsers().stream()
+                        .map(userMapper::toDTO)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/search")
@@ -44,9 +48,10 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return userService.getUserById(id)
-                .map(user -> ResponseEntity.ok(userMapper.toDTO(user)))
+                .map(user -> ConditionalResponses.ok(ifNoneMatch, EntityTags.of(user), () -> userMapper.toDTO(user)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
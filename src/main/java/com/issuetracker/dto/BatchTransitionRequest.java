@@ -0,0 +1,24 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.model.Issue.IssueStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransitionRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> issueIds;
+
+    // Target status (IN_PROGRESS or DONE); may be combined with assigneeId, which is applied first
+    private IssueStatus status;
+
+    private Long assigneeId;
+}
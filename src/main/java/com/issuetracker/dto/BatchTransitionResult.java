@@ -0,0 +1,31 @@
+package com.issuetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransitionResult {
+    private Long issueId;
+    private Outcome outcome;
+    private String message;
+
+    public static BatchTransitionResult updated(Long issueId) {
+        return new BatchTransitionResult(issueId, Outcome.UPDATED, null);
+    }
+
+    public static BatchTransitionResult of(Long issueId, Outcome outcome, String message) {
+        return new BatchTransitionResult(issueId, outcome, message);
+    }
+
+    public enum Outcome {
+        UPDATED,
+        // Workflow or SLA rule not met
+        REJECTED,
+        NOT_FOUND,
+        // Changed by someone else between read and write
+        CONFLICT
+    }
+}
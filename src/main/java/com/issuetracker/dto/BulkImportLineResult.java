@@ -0,0 +1,31 @@
+package com.issuetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportLineResult {
+    private long line;
+    private Status status;
+    private Long issueId;
+
+    // Field name -> message, only set for FAILED lines
+    private Map<String, String> errors;
+
+    public static BulkImportLineResult created(long line, Long issueId) {
+        return new BulkImportLineResult(line, Status.CREATED, issueId, null);
+    }
+
+    public static BulkImportLineResult failed(long line, Map<String, String> errors) {
+        return new BulkImportLineResult(line, Status.FAILED, null, errors);
+    }
+
+    public enum Status {
+        CREATED, FAILED
+    }
+}
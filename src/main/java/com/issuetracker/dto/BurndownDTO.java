@@ -0,0 +1,33 @@
+package com.issuetracker.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BurndownDTO {
+    private Long sprintId;
+    private String sprintName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // Past its end date; the burndown no longer changes
+    private boolean closed;
+    private long totalIssues;
+    // One point per sprint day up to today (or the end date)
+    private List<Point> points;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate date;
+        private long remaining;
+        private double ideal;
+    }
+}
@@ -0,0 +1,24 @@
+package com.issuetracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Row count and newest updated_at of a collection, counting the rows it references (whose names the DTOs repeat)
+ * as well. Built by the count/max queries in the repositories; see {@link com.issuetracker.service.EntityTags}.
+ */
+public record CollectionVersion(Long count, LocalDateTime lastModified) {
+
+    public CollectionVersion(Long count, LocalDateTime lastModified, LocalDateTime referencedLastModified) {
+        this(count, latest(lastModified, referencedLastModified));
+    }
+
+    public CollectionVersion(Long count, LocalDateTime lastModified, LocalDateTime firstReferencedLastModified,
+                             LocalDateTime secondReferencedLastModified) {
+        this(count, latest(lastModified, firstReferencedLastModified, secondReferencedLastModified));
+    }
+
+    private static LocalDateTime latest(LocalDateTime... timestamps) {
+        return Stream.of(timestamps).filter(t -> t != null).max(LocalDateTime::compareTo).orElse(null);
+    }
+}
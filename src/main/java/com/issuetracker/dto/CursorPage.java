@@ -0,0 +1,16 @@
+package com.issuetracker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+
+    // Opaque token for the next page, null when this is the last page
+    private String nextCursor;
+}
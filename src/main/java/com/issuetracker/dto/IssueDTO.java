@@ -3,10 +3,14 @@ package com.issuetracker.dto;
 import com.issuetracker.model.Issue.IssuePriority;
 import com.issuetracker.model.Issue.IssueStatus;
 import com.issuetracker.model.Issue.IssueType;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor // Used by the constructor expressions in IssueRepository, keep field order in sync
 public class IssueDTO {
     private Long id;
     private String title;
@@ -0,0 +1,39 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.Issue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Data of one change feed event (GET /projects/{projectId}/issues/stream), also the payload of issue outbox events
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFeedEventDTO {
+    private IssueChangedEvent.Type type;
+    private Long issueId;
+    private Long projectId;
+
+    // Set for CREATED
+    private String title;
+
+    // Status after the change; null for ASSIGNED events replayed after a reconnect
+    private String status;
+
+    // Previous and new status name or assignee username, as in IssueChangedEvent
+    private String oldValue;
+    private String newValue;
+
+    private LocalDateTime occurredAt;
+
+    public static IssueFeedEventDTO of(IssueChangedEvent event) {
+        Issue issue = event.getIssue();
+        return new IssueFeedEventDTO(event.getType(), issue.getId(), issue.getProject().getId(),
+                event.getType() == IssueChangedEvent.Type.CREATED ? issue.getTitle() : null,
+                issue.getStatus() != null ? issue.getStatus().name() : null,
+                event.getOldValue(), event.getNewValue(), event.getOccurredAt());
+    }
+}
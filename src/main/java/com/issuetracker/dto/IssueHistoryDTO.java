@@ -0,0 +1,23 @@
+package com.issuetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One history row, from the database or from an archive file (which stores this shape as NDJSON)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor // Used by the constructor expressions in IssueHistoryRepository, keep field order in sync
+public class IssueHistoryDTO {
+    private Long id;
+    private Long issueId;
+    private LocalDateTime changedAt;
+    private Long changedById;
+    private String changedByUsername;
+    private String oldStatus;
+    private String newStatus;
+    private String oldAssigneeName;
+    private String newAssigneeName;
+}
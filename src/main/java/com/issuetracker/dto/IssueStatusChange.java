@@ -0,0 +1,16 @@
+package com.issuetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// One status transition from issue history, as read by the sprint analytics queries
+@Value
+@AllArgsConstructor
+public class IssueStatusChange {
+    Long issueId;
+    String oldStatus;
+    String newStatus;
+    LocalDateTime changedAt;
+}
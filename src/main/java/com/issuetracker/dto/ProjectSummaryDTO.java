@@ -0,0 +1,31 @@
+package com.issuetracker.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSummaryDTO {
+    private Long projectId;
+    private long totalIssues;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byPriority;
+    private Map<String, Long> byType;
+    // Most issues first; a null userId is the unassigned bucket
+    private List<AssigneeCount> byAssignee;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssigneeCount {
+        private Long userId;
+        private String username;
+        private long count;
+    }
+}
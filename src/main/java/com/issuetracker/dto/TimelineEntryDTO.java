@@ -0,0 +1,50 @@
+package com.issuetracker.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One event of an issue's timeline: a comment (content set) or a history row (status/assignee fields set)
+@Data
+@NoArgsConstructor
+public class TimelineEntryDTO {
+
+    // Also the tie-breaker between a comment and a change at the same instant: comments come first
+    public enum Type { COMMENT, HISTORY }
+
+    private Type type;
+    private Long id;
+    private LocalDateTime occurredAt;
+    private Long authorId;
+    private String authorUsername;
+    private String content;
+    private String oldStatus;
+    private String newStatus;
+    private String oldAssigneeName;
+    private String newAssigneeName;
+
+    // Used by the constructor expression in IssueCommentRepository
+    public TimelineEntryDTO(Long id, LocalDateTime occurredAt, Long authorId, String authorUsername, String content) {
+        this.type = Type.COMMENT;
+        this.id = id;
+        this.occurredAt = occurredAt;
+        this.authorId = authorId;
+        this.authorUsername = authorUsername;
+        this.content = content;
+    }
+
+    public static TimelineEntryDTO of(IssueHistoryDTO history) {
+        TimelineEntryDTO entry = new TimelineEntryDTO();
+        entry.type = Type.HISTORY;
+        entry.id = history.getId();
+        entry.occurredAt = history.getChangedAt();
+        entry.authorId = history.getChangedById();
+        entry.authorUsername = history.getChangedByUsername();
+        entry.oldStatus = history.getOldStatus();
+        entry.newStatus = history.getNewStatus();
+        entry.oldAssigneeName = history.getOldAssigneeName();
+        entry.newAssigneeName = history.getNewAssigneeName();
+        return entry;
+    }
+}
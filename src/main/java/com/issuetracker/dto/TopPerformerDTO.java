@@ -0,0 +1,14 @@
+package com.issuetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopPerformerDTO {
+    private Long userId;
+    private String username;
+    private Long closedCount;
+}
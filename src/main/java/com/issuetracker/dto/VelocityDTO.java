@@ -0,0 +1,31 @@
+package com.issuetracker.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VelocityDTO {
+    private Long projectId;
+    // Most recent closed sprints first
+    private List<SprintVelocity> sprints;
+    private double averageCompleted;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SprintVelocity {
+        private Long sprintId;
+        private String name;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private long committed;
+        private long completed;
+    }
+}
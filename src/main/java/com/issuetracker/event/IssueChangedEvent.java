@@ -0,0 +1,39 @@
+package com.issuetracker.event;
+
+import com.issuetracker.model.Issue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by IssueService for every issue mutation, inside the mutating transaction.
+ * Listeners that must only see committed data use @TransactionalEventListener.
+ */
+@Getter
+@AllArgsConstructor
+public class IssueChangedEvent {
+
+    private final Type type;
+    private final Issue issue;
+
+    // Previous and new value of the changed field (status name or assignee username), null for CREATED/COMMENTED
+    private final String oldValue;
+    private final String newValue;
+
+    // Time stored with the change: the issue's createdAt, the history row's changedAt or the comment's createdAt
+    private final LocalDateTime occurredAt;
+
+    public IssueChangedEvent(Type type, Issue issue, String oldValue, String newValue) {
+        this(type, issue, oldValue, newValue, LocalDateTime.now());
+    }
+
+    public static IssueChangedEvent created(Issue issue) {
+        return new IssueChangedEvent(Type.CREATED, issue, null, null,
+                issue.getCreatedAt() != null ? issue.getCreatedAt() : LocalDateTime.now());
+    }
+
+    public enum Type {
+        CREATED, STATUS_CHANGED, ASSIGNED, COMMENTED
+    }
+}
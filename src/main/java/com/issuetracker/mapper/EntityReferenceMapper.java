@@ -0,0 +1,19 @@
+package com.issuetracker.mapper;
+
+import com.issuetracker.model.Project;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Turns ids carried by requests into references to the existing rows. Versioned entities need this: Hibernate
+// takes a new instance that only holds an id, with no version, for an unsaved one
+@Component
+@RequiredArgsConstructor
+public class EntityReferenceMapper {
+
+    private final EntityManager entityManager;
+
+    public Project toProject(Long projectId) {
+        return projectId == null ? null : entityManager.getReference(Project.class, projectId);
+    }
+}
@@ -6,7 +6,7 @@ import com.issuetracker.dto.IssueDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = EntityReferenceMapper.class)
 public interface IssueMapper {
 
     @Mapping(target = "projectId", source = "project.id")
@@ -20,8 +20,9 @@ public interface IssueMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
-    @Mapping(target = "project.id", source = "projectId")
+    @Mapping(target = "project", source = "projectId")
     @Mapping(target = "reporter.id", source = "reporterId")
     @Mapping(target = "assignee", ignore = true) // Assignee not set on create usually
     @Mapping(target = "sprint", ignore = true)
@@ -14,8 +14,10 @@ import java.util.Set;
 @EntityListeners(AuditingEntityListener.class)
 public class Issue {
 
+    // Sequence ids (not IDENTITY) let Hibernate batch inserts, e.g. during bulk import
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_seq")
+    @SequenceGenerator(name = "issue_seq", sequenceName = "issue_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -37,8 +39,12 @@ public class Issue {
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // Set when the issue moves to DONE
+    private LocalDateTime completedAt;
+
     // Optimistic locking
     @Version
+    @Column(nullable = false)
     private Long version;
 
     @ManyToOne(fetch = FetchType.LAZY)
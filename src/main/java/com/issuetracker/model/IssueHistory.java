@@ -8,8 +8,10 @@ import java.time.LocalDateTime;
 @Entity
 @Data
 public class IssueHistory {
+    // Sequence ids (not IDENTITY) let Hibernate batch history inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_history_seq")
+    @SequenceGenerator(name = "issue_history_seq", sequenceName = "issue_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,31 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// A month of issue history moved out of the database into a compressed file by IssueHistoryArchiver
+@Entity
+@Table(name = "issue_history_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IssueHistoryArchive {
+
+    // First day of the month
+    @Id
+    private LocalDate month;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
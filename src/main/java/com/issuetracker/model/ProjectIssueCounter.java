@@ -0,0 +1,51 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// Number of a project's issues in one bucket of a dimension, e.g. STATUS / IN_PROGRESS
+@Entity
+@Table(name = "project_issue_counter")
+@IdClass(ProjectIssueCounter.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectIssueCounter {
+
+    public static final String NONE = "NONE";
+    public static final String UNASSIGNED = "UNASSIGNED";
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Dimension dimension;
+
+    // Enum name, or the assignee's user id for ASSIGNEE
+    @Id
+    @Column(length = 50)
+    private String bucket;
+
+    @Column(name = "issue_count", nullable = false)
+    private long issueCount;
+
+    public enum Dimension {
+        STATUS, PRIORITY, TYPE, ASSIGNEE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private Dimension dimension;
+        private String bucket;
+    }
+}
@@ -0,0 +1,38 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Number of the sprint's issues that were DONE at the end of a day
+@Entity
+@Table(name = "sprint_daily_snapshot")
+@IdClass(SprintDailySnapshot.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SprintDailySnapshot {
+
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long sprintId;
+        private LocalDate snapshotDate;
+    }
+}
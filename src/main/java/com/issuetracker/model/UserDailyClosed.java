@@ -0,0 +1,43 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Rollup behind the top-performers report: issues completed per assignee, project and day
+@Entity
+@Table(name = "user_daily_closed")
+@IdClass(UserDailyClosed.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDailyClosed {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "closed_on")
+    private LocalDate closedOn;
+
+    @Column(name = "closed_count", nullable = false)
+    private int closedCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long projectId;
+        private LocalDate closedOn;
+    }
+}
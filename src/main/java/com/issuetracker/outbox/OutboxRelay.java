@@ -0,0 +1,101 @@
+package com.issuetracker.outbox;
+
+import com.issuetracker.model.OutboxEvent;
+import com.issuetracker.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publishes outbox events to the {@link OutboxSink} in id order, a batch per transaction: the batch is read
+ * with row locks, handed to the sink and marked published in the same transaction. A failing sink rolls the
+ * batch back and it is retried on the next run, so delivery is at least once and nothing behind a failed event
+ * overtakes it. Id order is commit order within an aggregate (see {@link OutboxWriter}), not across aggregates.
+ * The row locks serialize relays running on several instances.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter published;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${issuetracker.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${issuetracker.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${issuetracker.outbox.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.published = meterRegistry.counter("issuetracker.outbox.published");
+        this.failures = meterRegistry.counter("issuetracker.outbox.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${issuetracker.outbox.relay.interval:1s}")
+    public void scheduledRelay() {
+        if (enabled) {
+            try {
+                relay();
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, retrying on the next run", e);
+            }
+        }
+    }
+
+    // Publishes until the outbox is drained; returns the number of events published
+    public int relay() {
+        int total = 0;
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> publishBatch());
+            total += count;
+        } while (count == batchSize);
+        return total;
+    }
+
+    @Scheduled(cron = "${issuetracker.outbox.cleanup-cron:0 15 4 * * *}")
+    public void deletePublished() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.info("Deleted {} published outbox events older than {}", deleted, retention);
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> batch = outboxRepository.findUnpublished(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(batch);
+        } catch (Exception e) {
+            failures.increment();
+            throw new IllegalStateException("Outbox sink rejected events " + batch.get(0).getId() + ".."
+                    + batch.get(batch.size() - 1).getId(), e);
+        }
+        outboxRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        published.increment(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.issuetracker.outbox;
+
+import com.issuetracker.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the events OutboxRelay publishes. A batch holds events in id order; returning means every event
+ * of it is stored, throwing means none counts as published and the whole batch is offered again, so sinks must
+ * tolerate duplicates (consumers deduplicate by event id).
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
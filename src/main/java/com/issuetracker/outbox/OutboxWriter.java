@@ -0,0 +1,160 @@
+package com.issuetracker.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.IssueFeedEventDTO;
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Appends outbox events inside the caller's transaction, so an event exists exactly when its change commits.
+ * Issue changes come in through IssueChangedEvent; SprintService and ProjectService call {@link #append}.
+ * <p>
+ * Events are buffered per transaction and written just before it commits, with plain JDBC so they neither
+ * flush the Hibernate session nor break its insert batching: the rows of the aggregates are locked, the ids
+ * are taken in one statement and the events go out as one batch.
+ * <p>
+ * Ids alone don't give commit order: a transaction can take an id and commit after one that took a later id.
+ * Taking the ids only after locking the aggregates' rows, which stay locked until commit, gives events of one
+ * aggregate their ids in commit order, so the relay can never see an event before an earlier one of the same
+ * aggregate. Events of different aggregates may still commit out of id order.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    public static final String ISSUE = "issue";
+    public static final String SPRINT = "sprint";
+    public static final String PROJECT = "project";
+
+    // Aggregate type -> table whose row serializes the aggregate's events
+    private static final Map<String, String> AGGREGATE_TABLES = Map.of(
+            ISSUE, "issue",
+            SPRINT, "sprints",
+            PROJECT, "projects");
+
+    private static final Object BUFFER_KEY = OutboxWriter.class.getName() + ".buffer";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        if (!AGGREGATE_TABLES.containsKey(aggregateType)) {
+            throw new IllegalArgumentException("Unknown outbox aggregate type: " + aggregateType);
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + aggregateType + " event " + eventType, e);
+        }
+        currentBuffer().add(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(json)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // Synchronous: runs inside the mutating transaction that published the event
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        append(ISSUE, event.getIssue().getId(), eventType(event.getType()), IssueFeedEventDTO.of(event));
+    }
+
+    // STATUS_CHANGED -> status-changed, as in the SSE change feed
+    static String eventType(Enum<?> type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> currentBuffer() {
+        List<OutboxEvent> buffer = (List<OutboxEvent>) TransactionSynchronizationManager.getResource(BUFFER_KEY);
+        if (buffer == null) {
+            List<OutboxEvent> newBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(BUFFER_KEY, newBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(newBuffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BUFFER_KEY);
+                }
+            });
+            buffer = newBuffer;
+        }
+        return buffer;
+    }
+
+    private void write(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        lockAggregates(events);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval('outbox_event_id_seq') FROM generate_series(1, ?)", Long.class, events.size());
+        Collections.sort(ids);
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setId(ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, payload, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                events, INSERT_BATCH_SIZE, (ps, event) -> {
+                    ps.setLong(1, event.getId());
+                    ps.setString(2, event.getAggregateType());
+                    ps.setLong(3, event.getAggregateId());
+                    ps.setString(4, event.getEventType());
+                    ps.setString(5, event.getPayload());
+                    ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+                });
+    }
+
+    // One locking read per aggregate type, in id order so two writers can't deadlock. An aggregate created in
+    // this transaction is invisible to others and needs no lock. Deleted rows are still there: Hibernate flushes
+    // the DELETE at commit, after this
+    private void lockAggregates(List<OutboxEvent> events) {
+        Map<String, Set<Long>> created = new TreeMap<>();
+        Map<String, Set<Long>> toLock = new TreeMap<>();
+        for (OutboxEvent event : events) {
+            if ("created".equals(event.getEventType())) {
+                created.computeIfAbsent(event.getAggregateType(), type -> new TreeSet<>()).add(event.getAggregateId());
+            }
+        }
+        for (OutboxEvent event : events) {
+            Long id = event.getAggregateId();
+            if (!created.getOrDefault(event.getAggregateType(), Set.of()).contains(id)) {
+                toLock.computeIfAbsent(event.getAggregateType(), type -> new TreeSet<>()).add(id);
+            }
+        }
+        toLock.forEach((type, ids) -> jdbcTemplate.queryForList(
+                "SELECT id FROM " + AGGREGATE_TABLES.get(type) + " WHERE id IN (" +
+                String.join(", ", Collections.nCopies(ids.size(), "?")) + ") ORDER BY id FOR UPDATE",
+                Long.class, ids.toArray()));
+    }
+}
@@ -1,9 +1,26 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.TimelineEntryDTO;
 import com.issuetracker.model.IssueComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IssueCommentRepository extends JpaRepository<IssueComment, Long> {
-    List<IssueComment> findByIssueId(Long issueId);
+
+    // Oldest first; pass a null cursor for the first page, otherwise the (createdAt, id) to continue after
+    @Query("SELECT new com.issuetracker.dto.TimelineEntryDTO(c.id, c.createdAt, a.id, a.username, c.content) " +
+           "FROM IssueComment c LEFT JOIN c.author a " +
+           "WHERE c.issue.id = :issueId " +
+           "AND (:afterId IS NULL OR c.createdAt > :afterAt " +
+           "OR (c.createdAt = :afterAt AND c.id > :afterId)) " +
+           "ORDER BY c.createdAt, c.id")
+    List<TimelineEntryDTO> findTimelinePage(@Param("issueId") Long issueId,
+                                            @Param("afterAt") LocalDateTime afterAt,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
 }
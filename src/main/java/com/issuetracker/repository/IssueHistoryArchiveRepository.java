@@ -0,0 +1,14 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.IssueHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IssueHistoryArchiveRepository extends JpaRepository<IssueHistoryArchive, LocalDate> {
+
+    List<IssueHistoryArchive> findByMonthGreaterThanEqualOrderByMonthDesc(LocalDate from);
+
+    List<IssueHistoryArchive> findByMonthGreaterThanEqualOrderByMonth(LocalDate from);
+}
@@ -1,9 +1,91 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.dto.IssueStatusChange;
 import com.issuetracker.model.IssueHistory;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface IssueHistoryRepository extends JpaRepository<IssueHistory, Long> {
-    List<IssueHistory> findByIssueIdOrderByChangedAtDesc(Long issueId);
+
+    String HISTORY_DTO_SELECT = "SELECT new com.issuetracker.dto.IssueHistoryDTO(" +
+           "h.id, h.issue.id, h.changedAt, u.id, u.username, " +
+           "h.oldStatus, h.newStatus, h.oldAssigneeName, h.newAssigneeName) " +
+           "FROM IssueHistory h LEFT JOIN h.changedBy u ";
+
+    // History still in the database; IssueHistoryService adds the archived months
+    @Query(HISTORY_DTO_SELECT +
+           "WHERE h.issue.id = :issueId " +
+           "ORDER BY h.changedAt DESC, h.id DESC")
+    List<IssueHistoryDTO> findByIssueIdOrderByChangedAtDesc(@Param("issueId") Long issueId);
+
+    // Oldest first, for the issue timeline; same cursor convention as IssueCommentRepository.findTimelinePage
+    @Query(HISTORY_DTO_SELECT +
+           "WHERE h.issue.id = :issueId " +
+           "AND (:afterId IS NULL OR h.changedAt > :afterAt " +
+           "OR (h.changedAt = :afterAt AND h.id > :afterId)) " +
+           "ORDER BY h.changedAt, h.id")
+    List<IssueHistoryDTO> findTimelinePage(@Param("issueId") Long issueId,
+                                           @Param("afterAt") LocalDateTime afterAt,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    // Changes to a project's issues recorded after 'since', oldest first, for resuming the change feed
+    @Query(HISTORY_DTO_SELECT +
+           "WHERE h.issue.project.id = :projectId AND h.changedAt > :since " +
+           "ORDER BY h.changedAt, h.id")
+    List<IssueHistoryDTO> findByProjectChangedAfter(@Param("projectId") Long projectId,
+                                                    @Param("since") LocalDateTime since,
+                                                    Limit limit);
+
+    // Rows of one partition month in the order archive files are written. Consume inside a transaction and close
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(HISTORY_DTO_SELECT +
+           "WHERE h.changedAt >= :from AND h.changedAt < :to " +
+           "ORDER BY h.issue.id, h.changedAt, h.id")
+    Stream<IssueHistoryDTO> streamForArchive(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Partition DDL, PostgreSQL only: the functions are created by V14__Partition_issue_history.sql
+    @Query(value = "SELECT issue_history_create_partition(:month)", nativeQuery = true)
+    boolean createPartition(@Param("month") LocalDate month);
+
+    @Query(value = "SELECT issue_history_drop_partition(:month)", nativeQuery = true)
+    boolean dropPartition(@Param("month") LocalDate month);
+
+    // Held until the transaction ends; false when another transaction holds it
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    // Monthly partitions as YYYY_MM, oldest first (the default partition is left out)
+    @Query(value = "SELECT substring(c.relname FROM 15) " +
+                   "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                   "WHERE i.inhparent = 'issue_history'::regclass AND c.relname <> 'issue_history_default' " +
+                   "ORDER BY 1", nativeQuery = true)
+    List<String> findPartitionMonths();
+
+    // Status transitions (assignment rows have no old status) of a sprint's issues in time order,
+    // optionally only those recorded at or after 'from'. Consume inside a transaction and close.
+    // The driver binds a null timestamp without a type, so the null test needs the cast on PostgreSQL
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.issuetracker.dto.IssueStatusChange(i.id, h.oldStatus, h.newStatus, h.changedAt) " +
+           "FROM IssueHistory h JOIN h.issue i " +
+           "WHERE i.sprint.id = :sprintId " +
+           "AND h.oldStatus IS NOT NULL " +
+           "AND (CAST(:from AS LocalDateTime) IS NULL OR h.changedAt >= :from) " +
+           "AND h.changedAt < :to " +
+           "ORDER BY h.changedAt, h.id")
+    Stream<IssueStatusChange> streamSprintStatusChanges(@Param("sprintId") Long sprintId,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
 }
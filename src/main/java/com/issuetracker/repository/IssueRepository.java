@@ -1,35 +1,86 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.IssueDTO;
 import com.issuetracker.model.Issue;
 import com.issuetracker.model.Issue.IssueStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface IssueRepository extends JpaRepository<Issue, Long> {
 
-    // Custom query for searching issues by project, status, and text (title or description)
-    @Query("SELECT i FROM Issue i WHERE i.project.id = :projectId " +
+    // Selects IssueDTO rows directly so list endpoints don't lazy-load project, assignee and reporter per issue
+    String ISSUE_DTO_SELECT = "SELECT new com.issuetracker.dto.IssueDTO(" +
+           "i.id, i.title, i.description, i.type, i.status, i.priority, i.dueDate, i.createdAt, " +
+           "p.id, p.name, a.id, a.username, r.id, r.username) " +
+           "FROM Issue i JOIN i.project p LEFT JOIN i.assignee a LEFT JOIN i.reporter r ";
+
+    // Keyset search by project, status, and text (title or description).
+    // Newest first; pass a null cursor for the first page, otherwise the (createdAt, id) of the last row seen.
+    // fts_match is registered by FullTextSearchFunctionContributor
+    @Query(ISSUE_DTO_SELECT +
+           "WHERE p.id = :projectId " +
+           "AND (:status IS NULL OR i.status = :status) " +
+           "AND (:text = '' OR fts_match(i.title, i.description, :text)) " +
+           "AND (:cursorId IS NULL OR i.createdAt < :cursorCreatedAt " +
+           "OR (i.createdAt = :cursorCreatedAt AND i.id < :cursorId)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<IssueDTO> searchIssues(@Param("projectId") Long projectId,
+                                @Param("status") IssueStatus status,
+                                @Param("text") String text,
+                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                @Param("cursorId") Long cursorId,
+                                Limit limit);
+
+    // Issues of a project created after 'since', oldest first, for resuming the change feed
+    @Query(ISSUE_DTO_SELECT +
+           "WHERE p.id = :projectId AND i.createdAt > :since " +
+           "ORDER BY i.createdAt, i.id")
+    List<IssueDTO> findCreatedAfter(@Param("projectId") Long projectId,
+                                    @Param("since") LocalDateTime since,
+                                    Limit limit);
+
+    @Query(ISSUE_DTO_SELECT + "WHERE i.id IN :ids")
+    List<IssueDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // All issues of a project as a cursor-backed stream, for exports.
+    // Must be consumed inside a (read-only) transaction and closed; the fetch size only takes effect on PostgreSQL
+    // with auto-commit off, otherwise the driver buffers the whole result set
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(ISSUE_DTO_SELECT + "WHERE p.id = :projectId ORDER BY i.id")
+    Stream<IssueDTO> streamByProjectId(@Param("projectId") Long projectId);
+
+    // Entities for batch transitions, with the assignee needed by the SLA rule and history
+    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.assignee WHERE i.id IN :ids")
+    List<Issue> findWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countBySprintId(Long sprintId);
+
+    // Batches in id order, used to rebuild the in-memory search index
+    List<Issue> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Relevance-ranked text search, best matches first
+    @Query(ISSUE_DTO_SELECT +
+           "WHERE p.id = :projectId " +
            "AND (:status IS NULL OR i.status = :status) " +
-           "AND (:text = '' OR LOWER(i.title) LIKE LOWER(CONCAT('%', :text, '%')) " +
-           "OR LOWER(CAST(i.description AS string)) LIKE LOWER(CONCAT('%', :text, '%')))")
-    List<Issue> searchIssues(@Param("projectId") Long projectId,
-                             @Param("status") IssueStatus status,
-                             @Param("text") String text);
-
-    // Report query: Top users by closed issues in a date range
-    // Returning Object[] for simplicity, could be mapped to an interface or DTO
-    @Query("SELECT i.assignee.username, COUNT(i) as closedCount " +
-           "FROM Issue i " +
-           "WHERE i.status = 'DONE' " +
-           "AND i.assignee IS NOT NULL " +
-           "AND i.createdAt BETWEEN :startDate AND :endDate " +
-           "GROUP BY i.assignee.username " +
-           "ORDER BY closedCount DESC " +
-           "LIMIT 5")
-    List<Object[]> findTopPerformers(@Param("startDate") LocalDateTime startDate,
-                                     @Param("endDate") LocalDateTime endDate);
+           "AND fts_match(i.title, i.description, :text) " +
+           "ORDER BY fts_rank(i.title, i.description, :text) DESC, i.id DESC")
+    List<IssueDTO> searchIssuesRanked(@Param("projectId") Long projectId,
+                                      @Param("status") IssueStatus status,
+                                      @Param("text") String text,
+                                      Limit limit);
 }
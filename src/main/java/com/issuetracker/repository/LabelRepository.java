@@ -1,9 +1,17 @@
 package com.issuetracker.repository;
 
 import com.issuetracker.model.Label;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface LabelRepository extends JpaRepository<Label, Long> {
+
+    // Query cache: Hibernate drops the result on any write to the table, bulk deletes included
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Label> findByName(String name);
 }
@@ -0,0 +1,78 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.ProjectIssueCounter;
+import com.issuetracker.model.ProjectIssueCounter.Dimension;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+public interface ProjectIssueCounterRepository extends JpaRepository<ProjectIssueCounter, ProjectIssueCounter.Key> {
+
+    List<ProjectIssueCounter> findByProjectId(Long projectId);
+
+    // Atomic add to an existing bucket; returns 0 when the bucket has no row yet
+    @Modifying
+    @Query("UPDATE ProjectIssueCounter c SET c.issueCount = c.issueCount + :delta " +
+           "WHERE c.projectId = :projectId AND c.dimension = :dimension AND c.bucket = :bucket")
+    int increment(@Param("projectId") Long projectId,
+                  @Param("dimension") Dimension dimension,
+                  @Param("bucket") String bucket,
+                  @Param("delta") long delta);
+
+    // Creates the bucket unless it exists; returns 0 when another transaction created it first. The primary key
+    // is the only unique constraint, so no conflict target is needed (H2 accepts none).
+    // The native spaces hint limits Hibernate's auto-flush and cache invalidation to this table
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_issue_counter"))
+    @Query(value = "INSERT INTO project_issue_counter (project_id, dimension, bucket, issue_count) " +
+                   "VALUES (:projectId, :dimension, :bucket, :delta) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId,
+                       @Param("dimension") String dimension,
+                       @Param("bucket") String bucket,
+                       @Param("delta") long delta);
+
+    /**
+     * Adds delta to a bucket, creating its row on first use. Each step is atomic: an insert that loses to a
+     * concurrent one waits for it to commit, conflicts and falls back to the update, so neither side fails
+     * or loses its delta. Most calls hit an existing bucket and cost one UPDATE.
+     */
+    default void adjust(Long projectId, Dimension dimension, String bucket, long delta) {
+        if (increment(projectId, dimension, bucket, delta) == 0
+                && insertIfAbsent(projectId, dimension.name(), bucket, delta) == 0) {
+            increment(projectId, dimension, bucket, delta);
+        }
+    }
+
+    // Buckets whose counter differs from a fresh count over the issue table, as
+    // (project_id, dimension, bucket, actual - counted). One statement, so both sides come from the same snapshot
+    @Query(value = "SELECT COALESCE(a.project_id, c.project_id), COALESCE(a.dimension, c.dimension), " +
+                   "COALESCE(a.bucket, c.bucket), COALESCE(a.cnt, 0) - COALESCE(c.issue_count, 0) " +
+                   "FROM (" +
+                   "SELECT project_id, 'STATUS' AS dimension, COALESCE(status, 'NONE') AS bucket, COUNT(*) AS cnt " +
+                   "FROM issue GROUP BY project_id, status " +
+                   "UNION ALL SELECT project_id, 'PRIORITY', COALESCE(priority, 'NONE'), COUNT(*) " +
+                   "FROM issue GROUP BY project_id, priority " +
+                   "UNION ALL SELECT project_id, 'TYPE', COALESCE(type, 'NONE'), COUNT(*) " +
+                   "FROM issue GROUP BY project_id, type " +
+                   "UNION ALL SELECT project_id, 'ASSIGNEE', COALESCE(CAST(assignee_id AS VARCHAR(20)), 'UNASSIGNED'), " +
+                   "COUNT(*) FROM issue GROUP BY project_id, assignee_id" +
+                   ") a FULL OUTER JOIN project_issue_counter c " +
+                   "ON a.project_id = c.project_id AND a.dimension = c.dimension AND a.bucket = c.bucket " +
+                   "WHERE COALESCE(a.cnt, 0) <> COALESCE(c.issue_count, 0)",
+           nativeQuery = true)
+    List<Object[]> findDrift();
+
+    // Buckets that dropped to zero, so summaries and drift checks stay small
+    @Modifying
+    @Query("DELETE FROM ProjectIssueCounter c WHERE c.issueCount = 0")
+    int deleteEmpty();
+}
@@ -1,20 +1,42 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // Query cache: results are dropped by Hibernate whenever the projects table changes
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Project> findByKey(String key);
 
     boolean existsByKey(String key);
 
+    // Lists are mapped with team and lead names; fetch them in the same query instead of one load per project
+    @Override
+    @EntityGraph(attributePaths = {"team", "lead"})
+    List<Project> findAll();
+
+    @EntityGraph(attributePaths = {"team", "lead"})
     List<Project> findByTeamId(Long teamId);
 
+    @EntityGraph(attributePaths = {"team", "lead"})
     List<Project> findByLeadId(Long leadId);
+
+    // ETag of findAll(): teams and leads count too, their names are in the list
+    @Query("SELECT new com.issuetracker.dto.CollectionVersion(COUNT(p) + COUNT(t) + COUNT(l), " +
+           "MAX(p.updatedAt), MAX(t.updatedAt), MAX(l.updatedAt)) " +
+           "FROM Project p LEFT JOIN p.team t LEFT JOIN p.lead l")
+    CollectionVersion findCollectionVersion();
 }
@@ -0,0 +1,14 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.SprintDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SprintDailySnapshotRepository extends JpaRepository<SprintDailySnapshot, SprintDailySnapshot.Key> {
+
+    List<SprintDailySnapshot> findBySprintIdAndSnapshotDateBetweenOrderBySnapshotDate(Long sprintId,
+                                                                                      LocalDate from,
+                                                                                      LocalDate to);
+}
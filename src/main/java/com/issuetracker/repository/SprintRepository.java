@@ -1,5 +1,6 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.Sprint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -33,6 +34,18 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
                                         @Param("startDate") LocalDate startDate,
                                         @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT s FROM Sprint s WHERE s.startDate <= :date AND s.endDate >= :date")
+    List<Sprint> findActiveOn(@Param("date") LocalDate date);
+
     @Query("SELECT s FROM Sprint s JOIN FETCH s.project WHERE s.project.id = :projectId ORDER BY s.startDate DESC")
     List<Sprint> findByProjectIdOrderByStartDateDesc(@Param("projectId") Long projectId);
+
+    // ETags of findAllWithProject() and findByProjectId(), which carry the project name and key
+    @Query("SELECT new com.issuetracker.dto.CollectionVersion(COUNT(s), MAX(s.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Sprint s JOIN s.project p")
+    CollectionVersion findCollectionVersion();
+
+    @Query("SELECT new com.issuetracker.dto.CollectionVersion(COUNT(s), MAX(s.updatedAt), MAX(p.updatedAt)) " +
+           "FROM Sprint s JOIN s.project p WHERE p.id = :projectId")
+    CollectionVersion findCollectionVersionByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,7 +1,9 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,7 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     Optional<Team> findByName(String name);
 
     boolean existsByName(String name);
+
+    @Query("SELECT new com.issuetracker.dto.CollectionVersion(COUNT(t), MAX(t.updatedAt)) FROM Team t")
+    CollectionVersion findCollectionVersion();
 }
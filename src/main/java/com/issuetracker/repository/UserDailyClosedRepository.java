@@ -0,0 +1,63 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.TopPerformerDTO;
+import com.issuetracker.model.UserDailyClosed;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+public interface UserDailyClosedRepository extends JpaRepository<UserDailyClosed, UserDailyClosed.Key> {
+
+    // Atomic add to an existing (user, project, day) row; returns 0 when the row doesn't exist yet
+    @Modifying
+    @Query("UPDATE UserDailyClosed c SET c.closedCount = c.closedCount + :delta " +
+           "WHERE c.userId = :userId AND c.projectId = :projectId AND c.closedOn = :closedOn")
+    int increment(@Param("userId") Long userId,
+                  @Param("projectId") Long projectId,
+                  @Param("closedOn") LocalDate closedOn,
+                  @Param("delta") int delta);
+
+    // Creates the row unless it exists; returns 0 when another transaction created it first
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "user_daily_closed"))
+    @Query(value = "INSERT INTO user_daily_closed (user_id, project_id, closed_on, closed_count) " +
+                   "VALUES (:userId, :projectId, :closedOn, :delta) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("projectId") Long projectId,
+                       @Param("closedOn") LocalDate closedOn,
+                       @Param("delta") int delta);
+
+    /**
+     * Adds delta to the issues a user closed in a project on a day, creating the row on first use. Atomic the
+     * same way as {@link ProjectIssueCounterRepository#adjust}: concurrent first completions of a day don't fail.
+     */
+    default void addClosed(Long userId, Long projectId, LocalDate closedOn, int delta) {
+        if (increment(userId, projectId, closedOn, delta) == 0
+                && insertIfAbsent(userId, projectId, closedOn, delta) == 0) {
+            increment(userId, projectId, closedOn, delta);
+        }
+    }
+
+    // Top users by issues closed between two days (inclusive), optionally within one project
+    @Query("SELECT new com.issuetracker.dto.TopPerformerDTO(u.id, u.username, SUM(c.closedCount)) " +
+           "FROM UserDailyClosed c JOIN User u ON u.id = c.userId " +
+           "WHERE c.closedOn BETWEEN :from AND :to " +
+           "AND (:projectId IS NULL OR c.projectId = :projectId) " +
+           "GROUP BY u.id, u.username " +
+           "ORDER BY SUM(c.closedCount) DESC, u.id")
+    List<TopPerformerDTO> findTopPerformers(@Param("from") LocalDate from,
+                                            @Param("to") LocalDate to,
+                                            @Param("projectId") Long projectId,
+                                            Limit limit);
+}
@@ -1,17 +1,25 @@
 package com.issuetracker.repository;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
@@ -20,6 +28,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<User> searchByUsernameOrEmail(@Param("query") String query);
+
+    // ETag of findAll(): role assignments bump users.updated_at, role renames show in MAX(r.updatedAt)
+    @Query("SELECT new com.issuetracker.dto.CollectionVersion(COUNT(DISTINCT u) + COUNT(r), " +
+           "MAX(u.updatedAt), MAX(r.updatedAt)) FROM User u LEFT JOIN u.roles r")
+    CollectionVersion findCollectionVersion();
 }
@@ -0,0 +1,154 @@
+package com.issuetracker.search;
+
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.service.IssueCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional in-memory inverted index answering project-scoped issue searches without a
+ * database scan. Every word of an issue's title and description is indexed; each query word
+ * is matched as a prefix. Kept current from {@link IssueChangedEvent}s after commit and
+ * rebuilt from the database at startup (see IssueSearchIndexInitializer). Changes that commit
+ * during a rebuild are held back and applied in order once it has loaded every issue, so
+ * neither the rebuild's clear nor a batch read before the commit can lose them.
+ */
+@Slf4j
+@Component
+public class IssueSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private final IssueRepository issueRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+
+    @Value("${issuetracker.search.index.enabled:false}")
+    private boolean enabled;
+
+    private volatile boolean ready;
+
+    // Non-null while a rebuild runs; changes wait here and are applied when it finishes
+    private final Object changeLock = new Object();
+    private List<IssueChangedEvent> heldBack;
+
+    public IssueSearchIndex(IssueRepository issueRepository, PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * True once the startup rebuild has finished; until then searches must go to the database.
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (changeLock) {
+            ready = false;
+            heldBack = new ArrayList<>();
+            projects.clear();
+        }
+        long lastId = 0;
+        int indexed = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Issue> batch = readOnlyTransaction.execute(status ->
+                    issueRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(REBUILD_BATCH_SIZE)));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(this::add);
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        int replayed;
+        synchronized (changeLock) {
+            replayed = heldBack.size();
+            heldBack.forEach(this::apply);
+            heldBack = null;
+            ready = true;
+        }
+        log.info("Issue search index rebuilt: {} issues in {} projects, {} changes replayed, in {} ms",
+                indexed, projects.size(), replayed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Ids of matching issues, newest first, at most {@code limit} of them.
+     */
+    public List<Long> search(Long projectId, IssueStatus status, String text, IssueCursor after, int limit) {
+        ProjectIndex index = projects.get(projectId);
+        if (index == null) {
+            return List.of();
+        }
+        return index.search(status, new ArrayList<>(tokenize(text)), after, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (changeLock) {
+            if (heldBack != null) {
+                heldBack.add(event);
+            } else {
+                apply(event);
+            }
+        }
+    }
+
+    // Re-applying a change the rebuild already loaded is harmless: adds are ignored, statuses are overwritten
+    private void apply(IssueChangedEvent event) {
+        Issue issue = event.getIssue();
+        switch (event.getType()) {
+            case CREATED -> add(issue);
+            case STATUS_CHANGED -> projectIndex(issue).updateStatus(issue.getId(), issue.getStatus());
+            default -> {
+                // Assignment and comments don't change indexed fields
+            }
+        }
+    }
+
+    private void add(Issue issue) {
+        Set<String> terms = new HashSet<>(tokenize(issue.getTitle()));
+        terms.addAll(tokenize(issue.getDescription()));
+        projectIndex(issue).add(issue.getId(), issue.getCreatedAt(), issue.getStatus(), terms);
+    }
+
+    private ProjectIndex projectIndex(Issue issue) {
+        return projects.computeIfAbsent(issue.getProject().getId(), id -> new ProjectIndex());
+    }
+
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+            }
+        }
+        return tokens;
+    }
+}
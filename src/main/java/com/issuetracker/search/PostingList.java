@@ -0,0 +1,51 @@
+package com.issuetracker.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Append-only list of document ordinals, stored as variable-length encoded deltas.
+ * Ordinals must be added in strictly increasing order.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int last = -1;
+
+    void add(int ordinal) {
+        if (ordinal == last) {
+            return;
+        }
+        if (ordinal < last) {
+            throw new IllegalArgumentException("Ordinals must be added in increasing order");
+        }
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int delta = ordinal - last;
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = ordinal;
+    }
+
+    void addTo(BitSet bits) {
+        int value = -1;
+        int position = 0;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            bits.set(value);
+        }
+    }
+}
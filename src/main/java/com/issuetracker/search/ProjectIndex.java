@@ -0,0 +1,126 @@
+package com.issuetracker.search;
+
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.service.IssueCursor;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over the issues of a single project. Issues are addressed by a dense
+ * per-project ordinal so posting lists and status bitsets stay small.
+ */
+final class ProjectIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+    private final Map<IssueStatus, BitSet> statuses = new EnumMap<>(IssueStatus.class);
+    private long[] issueIds = new long[16];
+    private LocalDateTime[] createdAt = new LocalDateTime[16];
+    private int size;
+
+    void add(long issueId, LocalDateTime issueCreatedAt, IssueStatus status, Set<String> issueTerms) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(issueId)) {
+                return;
+            }
+            if (size == issueIds.length) {
+                issueIds = Arrays.copyOf(issueIds, size * 2);
+                createdAt = Arrays.copyOf(createdAt, size * 2);
+            }
+            int ordinal = size++;
+            issueIds[ordinal] = issueId;
+            createdAt[ordinal] = issueCreatedAt != null ? issueCreatedAt : LocalDateTime.MIN;
+            ordinals.put(issueId, ordinal);
+            for (String term : issueTerms) {
+                terms.computeIfAbsent(term, t -> new PostingList()).add(ordinal);
+            }
+            setStatus(ordinal, status);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void updateStatus(long issueId, IssueStatus status) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(issueId);
+            if (ordinal != null) {
+                setStatus(ordinal, status);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} issue ids matching every prefix, newest first by (createdAt, id),
+     * starting strictly after {@code after} when it is given.
+     */
+    List<Long> search(IssueStatus status, List<String> prefixes, IssueCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = new BitSet(size);
+            if (status != null) {
+                matches.or(statuses.getOrDefault(status, new BitSet()));
+            } else {
+                matches.set(0, size);
+            }
+            for (String prefix : prefixes) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                BitSet termMatches = new BitSet(size);
+                for (PostingList postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                    postings.addTo(termMatches);
+                }
+                matches.and(termMatches);
+            }
+            return newest(matches, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> newest(BitSet matches, IssueCursor after, int limit) {
+        Comparator<Integer> newestFirst = Comparator.<Integer, LocalDateTime>comparing(o -> createdAt[o])
+                .thenComparingLong(o -> issueIds[o])
+                .reversed();
+        // Min-heap on the newest-first order keeps the best `limit` candidates
+        PriorityQueue<Integer> best = new PriorityQueue<>(newestFirst.reversed());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            if (after != null && !isAfter(ordinal, after)) {
+                continue;
+            }
+            best.offer(ordinal);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Integer> ordered = new ArrayList<>(best);
+        ordered.sort(newestFirst);
+        List<Long> ids = new ArrayList<>(ordered.size());
+        for (int ordinal : ordered) {
+            ids.add(issueIds[ordinal]);
+        }
+        return ids;
+    }
+
+    private boolean isAfter(int ordinal, IssueCursor cursor) {
+        int cmp = createdAt[ordinal].compareTo(cursor.getCreatedAt());
+        return cmp < 0 || (cmp == 0 && issueIds[ordinal] < cursor.getId());
+    }
+
+    private void setStatus(int ordinal, IssueStatus status) {
+        for (BitSet bits : statuses.values()) {
+            bits.clear(ordinal);
+        }
+        if (status != null) {
+            statuses.computeIfAbsent(status, s -> new BitSet()).set(ordinal);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.issuetracker.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts optimistic lock conflicts on {@link RetryOnConflict} methods, tagged by method:
+ * issuetracker.issue.conflicts for every failed attempt, and issuetracker.issue.conflict.outcomes
+ * for calls that hit at least one conflict, tagged recovered or exhausted.
+ */
+@Component("conflictRetryListener")
+@RequiredArgsConstructor
+public class ConflictRetryListener implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        meterRegistry.counter("issuetracker.issue.conflicts", "method", methodName(callback)).increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (context.getRetryCount() == 0) {
+            return;
+        }
+        meterRegistry.counter("issuetracker.issue.conflict.outcomes",
+                "method", methodName(callback),
+                "outcome", throwable == null ? "recovered" : "exhausted").increment();
+    }
+
+    private static String methodName(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> invocation) {
+            return invocation.getInvocation().getMethod().getName();
+        }
+        return "unknown";
+    }
+}
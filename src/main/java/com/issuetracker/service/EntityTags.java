@@ -0,0 +1,100 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.CollectionVersion;
+import com.issuetracker.exception.PreconditionFailedException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Sprint;
+import com.issuetracker.model.Team;
+import com.issuetracker.model.User;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Strong ETags of the API representations. An entity's tag covers its version (issues, projects, sprints) and/or
+ * updatedAt, plus the updatedAt of the entities whose names its DTO repeats, so renaming a project changes the
+ * tags of its sprints and issues. A collection's tag covers the {@link CollectionVersion} of its table. The entities stamp updatedAt
+ * in microseconds, the database precision, so a tag computed right after a write equals the one read back later.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(Project project) {
+        return tag("project", project.getId(), project.getVersion(), project.getUpdatedAt(),
+                updatedAt(project.getTeam()), updatedAt(project.getLead()));
+    }
+
+    public static String of(Sprint sprint) {
+        return tag("sprint", sprint.getId(), sprint.getVersion(), sprint.getUpdatedAt(),
+                updatedAt(sprint.getProject()));
+    }
+
+    public static String of(Team team) {
+        return tag("team", team.getId(), team.getUpdatedAt());
+    }
+
+    // Role assignments bump User.updatedAt (UserService), so the tag covers the role names too
+    public static String of(User user) {
+        return tag("user", user.getId(), user.getUpdatedAt());
+    }
+
+    public static String of(Issue issue) {
+        return tag("issue", issue.getId(), issue.getVersion(), updatedAt(issue.getProject()),
+                updatedAt(issue.getAssignee()), updatedAt(issue.getReporter()));
+    }
+
+    public static String of(String collection, CollectionVersion version) {
+        return tag(collection, version.count(), version.lastModified());
+    }
+
+    /**
+     * If-None-Match: true when the header is "*" or lists the tag, so the client's copy is current. Weak
+     * comparison, as RFC 9110 asks for this header.
+     */
+    public static boolean isNotModified(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && candidates(ifNoneMatch)
+                .anyMatch(candidate -> candidate.equals("*") || stripWeak(candidate).equals(eTag));
+    }
+
+    /**
+     * If-Match: passes when the header is absent, "*" or lists the tag (strong comparison); otherwise the client
+     * edited a stale copy and the update is refused.
+     */
+    public static void checkIfMatch(String ifMatch, String eTag) {
+        if (ifMatch != null && candidates(ifMatch).noneMatch(candidate -> candidate.equals("*") || candidate.equals(eTag))) {
+            throw new PreconditionFailedException("Resource has changed since " + ifMatch + ", current version is " + eTag);
+        }
+    }
+
+    private static String tag(Object... parts) {
+        String key = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static LocalDateTime updatedAt(Project project) {
+        return project != null ? project.getUpdatedAt() : null;
+    }
+
+    private static LocalDateTime updatedAt(Team team) {
+        return team != null ? team.getUpdatedAt() : null;
+    }
+
+    private static LocalDateTime updatedAt(User user) {
+        return user != null ? user.getUpdatedAt() : null;
+    }
+
+    private static Stream<String> candidates(String header) {
+        return Arrays.stream(header.split(",")).map(String::trim).filter(candidate -> !candidate.isEmpty());
+    }
+
+    private static String stripWeak(String candidate) {
+        return candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+    }
+}
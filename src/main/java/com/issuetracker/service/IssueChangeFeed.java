@@ -0,0 +1,303 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueFeedEventDTO;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.event.IssueChangedEvent.Type;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-Sent Events feed of issue changes per project, so boards can follow a project instead of polling
+ * the issue list. Changes are pushed after their transaction commits. Each subscriber has a bounded buffer
+ * drained by its own sender; a subscriber whose buffer overflows (a slow or stalled client) is disconnected
+ * and resumes with Last-Event-ID like after any other disconnect.
+ * <p>
+ * The event id is the time stored with the change. That time is taken before commit, so a change can become
+ * visible after a later-stamped one the client already received. On reconnect the issues created and the history
+ * rows recorded after that time minus resume-overlap are therefore replayed (comments are not), and live changes
+ * are only skipped when the replay already sent the same change. Changes inside the overlap can reach a client
+ * twice; clients drop repeats by event name, issue id and event id. When the gap is older than resume-window or
+ * larger than the buffer, a single {@code resync} event tells the client to reload the list instead.
+ */
+@Slf4j
+@Component
+public class IssueChangeFeed {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final IssueRepository issueRepository;
+    private final IssueHistoryRepository historyRepository;
+    private final TaskExecutor senders;
+    private final int bufferSize;
+    private final Duration resumeWindow;
+    private final Duration resumeOverlap;
+    private final long timeoutMillis;
+    private final Counter evictions;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IssueChangeFeed(IssueRepository issueRepository,
+                           IssueHistoryRepository historyRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${issuetracker.feed.buffer-size:256}") int bufferSize,
+                           @Value("${issuetracker.feed.resume-window:10m}") Duration resumeWindow,
+                           @Value("${issuetracker.feed.resume-overlap:5s}") Duration resumeOverlap,
+                           @Value("${issuetracker.feed.timeout:30m}") Duration timeout,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(issueRepository, historyRepository, meterRegistry, senderExecutor(virtualThreads),
+                bufferSize, resumeWindow, resumeOverlap, timeout);
+    }
+
+    IssueChangeFeed(IssueRepository issueRepository, IssueHistoryRepository historyRepository,
+                    MeterRegistry meterRegistry, TaskExecutor senders, int bufferSize, Duration resumeWindow,
+                    Duration resumeOverlap, Duration timeout) {
+        this.issueRepository = issueRepository;
+        this.historyRepository = historyRepository;
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.resumeWindow = resumeWindow;
+        this.resumeOverlap = resumeOverlap;
+        this.timeoutMillis = timeout.toMillis();
+        this.evictions = meterRegistry.counter("issuetracker.feed.evictions");
+        meterRegistry.gauge("issuetracker.feed.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+    }
+
+    // A sender blocks while its client's socket is full, so senders get their own threads rather than a shared pool
+    private static TaskExecutor senderExecutor(boolean virtualThreads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("issue-feed-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    public SseEmitter subscribe(Long projectId, String lastEventId) {
+        return subscribe(projectId, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long projectId, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        // Registered before the replay query so no change falls between the two; start() drops the overlap
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.start(lastEventId == null || lastEventId.isBlank() ? List.of() : replay(projectId, lastEventId));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getIssue().getProject().getId());
+        if (projectSubscribers == null || projectSubscribers.isEmpty()) {
+            return;
+        }
+        IssueFeedEventDTO data = IssueFeedEventDTO.of(event);
+        for (Subscriber subscriber : projectSubscribers) {
+            subscriber.offer(data);
+        }
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away
+    @Scheduled(fixedDelayString = "${issuetracker.feed.heartbeat:15s}")
+    public void heartbeat() {
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                subscriber.offer(null);
+            }
+        }
+    }
+
+    // Changes after lastEventId, oldest first, or null when the client has to reload instead
+    private List<IssueFeedEventDTO> replay(Long projectId, String lastEventId) {
+        LocalDateTime since;
+        try {
+            since = LocalDateTime.parse(lastEventId);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+        if (since.isBefore(LocalDateTime.now().minus(resumeWindow))) {
+            return null;
+        }
+        LocalDateTime from = since.minus(resumeOverlap);
+        List<IssueFeedEventDTO> events = new ArrayList<>();
+        issueRepository.findCreatedAfter(projectId, from, Limit.of(bufferSize + 1)).forEach(issue ->
+                events.add(new IssueFeedEventDTO(Type.CREATED, issue.getId(), projectId, issue.getTitle(),
+                        issue.getStatus() != null ? issue.getStatus().name() : null, null, null,
+                        issue.getCreatedAt())));
+        for (IssueHistoryDTO history : historyRepository.findByProjectChangedAfter(projectId, from,
+                Limit.of(bufferSize + 1))) {
+            boolean statusChange = history.getOldStatus() != null;
+            events.add(new IssueFeedEventDTO(statusChange ? Type.STATUS_CHANGED : Type.ASSIGNED,
+                    history.getIssueId(), projectId, null, history.getNewStatus(),
+                    statusChange ? history.getOldStatus() : history.getOldAssigneeName(),
+                    statusChange ? history.getNewStatus() : history.getNewAssigneeName(),
+                    history.getChangedAt()));
+        }
+        if (events.size() > bufferSize) {
+            return null;
+        }
+        events.sort(Comparator.comparing(IssueFeedEventDTO::getOccurredAt));
+        return events;
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    private static SseEventBuilder toSseEvent(IssueFeedEventDTO data) {
+        return SseEmitter.event()
+                .id(data.getOccurredAt().toString())
+                .name(data.getType().name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    // Identifies a change in both its live and its replayed form; stored times have microsecond precision
+    private record ChangeKey(Type type, Long issueId, LocalDateTime occurredAt) {
+
+        static ChangeKey of(IssueFeedEventDTO data) {
+            return new ChangeKey(data.getType(), data.getIssueId(), data.getOccurredAt().truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+
+        // Guarded by this. Changes that arrive while the replay is queried wait in early
+        private final List<IssueFeedEventDTO> early = new ArrayList<>();
+        private final Queue<SseEventBuilder> buffer = new ArrayDeque<>();
+        private boolean started;
+        private boolean sending;
+        private boolean closed;
+
+        // Live changes the replay already sent are skipped
+        private final Set<ChangeKey> replayed = new HashSet<>();
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void start(List<IssueFeedEventDTO> replay) {
+            if (closed) {
+                return;
+            }
+            if (replay == null) {
+                // Resumes from now once the client has reloaded
+                buffer.add(SseEmitter.event().id(LocalDateTime.now().toString()).name(RESYNC_EVENT).data(""));
+            } else {
+                replay.forEach(data -> {
+                    buffer.add(toSseEvent(data));
+                    replayed.add(ChangeKey.of(data));
+                });
+            }
+            started = true;
+            early.forEach(this::offer);
+            early.clear();
+            scheduleSend();
+        }
+
+        // A null change is a heartbeat
+        private synchronized void offer(IssueFeedEventDTO data) {
+            if (closed) {
+                return;
+            }
+            if (!started) {
+                if (data != null) {
+                    if (early.size() >= bufferSize) {
+                        evict();
+                    } else {
+                        early.add(data);
+                    }
+                }
+                return;
+            }
+            if (data != null && !replayed.isEmpty() && replayed.contains(ChangeKey.of(data))) {
+                return;
+            }
+            if (buffer.size() >= bufferSize) {
+                evict();
+                return;
+            }
+            buffer.add(data == null ? SseEmitter.event().comment("keep-alive") : toSseEvent(data));
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (!sending && !buffer.isEmpty()) {
+                sending = true;
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            while (true) {
+                SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : buffer.poll();
+                    if (event == null) {
+                        sending = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the container completes the emitter
+                    synchronized (this) {
+                        closed = true;
+                        sending = false;
+                    }
+                    remove(this);
+                    return;
+                }
+            }
+        }
+
+        // Called with the lock held. Completing may wait for a send stuck on the socket, so it runs on a sender
+        private void evict() {
+            closed = true;
+            early.clear();
+            buffer.clear();
+            remove(this);
+            evictions.increment();
+            log.debug("Disconnected a slow change feed subscriber of project {}", projectId);
+            senders.execute(emitter::complete);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Writes all issues of a project as NDJSON or CSV, row by row from a database cursor,
+ * so heap use does not grow with the number of issues exported.
+ */
+@Service
+public class IssueExportService {
+
+    private static final String CSV_HEADER = "id,title,description,type,status,priority,dueDate,createdAt," +
+            "projectId,projectName,assigneeId,assigneeName,reporterId,reporterName";
+
+    private final IssueRepository issueRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectWriter dtoWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public IssueExportService(IssueRepository issueRepository,
+                              ProjectRepository projectRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.projectRepository = projectRepository;
+        this.dtoWriter = objectMapper.writerFor(IssueDTO.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    // Called on the request thread, so a missing project is still a 404 before the response is committed
+    public void checkExportable(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+    }
+
+    public void exportIssues(Long projectId, Format format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<IssueDTO> issues = issueRepository.streamByProjectId(projectId)) {
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<IssueDTO> it = issues.iterator();
+                while (it.hasNext()) {
+                    IssueDTO issue = it.next();
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, issue);
+                    } else {
+                        writer.write(dtoWriter.writeValueAsString(issue));
+                    }
+                    writer.write('\n');
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsvRow(Writer writer, IssueDTO issue) throws IOException {
+        Object[] values = {
+                issue.getId(), issue.getTitle(), issue.getDescription(), issue.getType(), issue.getStatus(),
+                issue.getPriority(), issue.getDueDate(), issue.getCreatedAt(), issue.getProjectId(),
+                issue.getProjectName(), issue.getAssigneeId(), issue.getAssigneeName(), issue.getReporterId(),
+                issue.getReporterName()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,170 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.issuetracker.dto.IssueHistoryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive files of issue history, one per month: NDJSON rows ordered by issue, written as a series of gzip
+ * members (blocks) of about block-rows rows that each start at a new issue. A sidecar .idx file lists the
+ * first issue id and byte offset of every block, so reading one issue decompresses a single block.
+ */
+@Component
+public class IssueHistoryArchiveStore {
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final Path directory;
+    private final int blockRows;
+    private final ObjectWriter rowWriter;
+    private final ObjectReader rowReader;
+
+    public IssueHistoryArchiveStore(ObjectMapper objectMapper,
+                                    @Value("${issuetracker.history.archive.directory:archive/issue-history}") Path directory,
+                                    @Value("${issuetracker.history.archive.block-rows:5000}") int blockRows) {
+        this.directory = directory;
+        this.blockRows = blockRows;
+        this.rowWriter = objectMapper.writerFor(IssueHistoryDTO.class);
+        this.rowReader = objectMapper.readerFor(IssueHistoryDTO.class);
+    }
+
+    public Path file(YearMonth month) {
+        return directory.resolve("issue_history_" + month.format(MONTH) + ".ndjson.gz").toAbsolutePath();
+    }
+
+    // Rows must come ordered by issue id. Replaces an earlier file of the month, e.g. from an interrupted run.
+    // Both files are written under names of their own and moved into place, so a reader never sees a partial one
+    public long write(YearMonth month, Iterator<IssueHistoryDTO> rows) throws IOException {
+        Files.createDirectories(directory);
+        Path file = file(month);
+        Path dataTemp = temp(file);
+        Path indexTemp = temp(index(file));
+        try {
+            long count = write(rows, dataTemp, indexTemp);
+            Files.move(indexTemp, index(file), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(dataTemp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count;
+        } finally {
+            Files.deleteIfExists(indexTemp);
+            Files.deleteIfExists(dataTemp);
+        }
+    }
+
+    private long write(Iterator<IssueHistoryDTO> rows, Path dataTemp, Path indexTemp) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(dataTemp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer index = Files.newBufferedWriter(indexTemp, StandardCharsets.UTF_8)) {
+            Block block = null;
+            while (rows.hasNext()) {
+                IssueHistoryDTO row = rows.next();
+                if (block == null || block.rows >= blockRows && !row.getIssueId().equals(block.lastIssueId)) {
+                    if (block != null) {
+                        block.writeTo(channel);
+                    }
+                    index.write(row.getIssueId() + " " + channel.position() + "\n");
+                    block = new Block();
+                }
+                block.add(row);
+                count++;
+            }
+            if (block != null) {
+                block.writeTo(channel);
+            }
+            channel.force(true);
+        }
+        return count;
+    }
+
+    // Rows of one issue in file order (oldest first)
+    public List<IssueHistoryDTO> read(Path file, Long issueId) throws IOException {
+        long offset = -1;
+        for (String entry : Files.readAllLines(index(file), StandardCharsets.UTF_8)) {
+            int space = entry.indexOf(' ');
+            if (Long.parseLong(entry.substring(0, space)) > issueId) {
+                break;
+            }
+            offset = Long.parseLong(entry.substring(space + 1));
+        }
+        List<IssueHistoryDTO> rows = new ArrayList<>();
+        if (offset < 0) {
+            return rows;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(offset);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Channels.newInputStream(channel)), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                IssueHistoryDTO row = rowReader.readValue(line);
+                if (row.getIssueId() > issueId) {
+                    break;
+                }
+                if (row.getIssueId().equals(issueId)) {
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Path index(Path file) {
+        return file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    // In the same directory, so the move into place stays atomic
+    private static Path temp(Path file) throws IOException {
+        return Files.createTempFile(file.getParent(), file.getFileName() + ".", ".tmp");
+    }
+
+    private class Block {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final GZIPOutputStream gzip;
+        private int rows;
+        private Long lastIssueId;
+
+        private Block() throws IOException {
+            gzip = new GZIPOutputStream(bytes, 64 * 1024);
+        }
+
+        private void add(IssueHistoryDTO row) throws IOException {
+            gzip.write(rowWriter.writeValueAsBytes(row));
+            gzip.write('\n');
+            rows++;
+            lastIssueId = row.getIssueId();
+        }
+
+        private void writeTo(FileChannel channel) throws IOException {
+            gzip.finish();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.model.IssueHistoryArchive;
+import com.issuetracker.repository.IssueHistoryArchiveRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Nightly maintenance of the monthly issue_history partitions (PostgreSQL only): creates the partitions of
+ * the coming months, and moves months older than the retention window into archive files
+ * ({@link IssueHistoryArchiveStore}) before dropping their partition. A month is registered in
+ * issue_history_archive in the transaction that drops its partition, so an interrupted run is finished by the
+ * next one.
+ * <p>
+ * Every step takes a transaction-scoped advisory lock first, so runs of several instances can't write the same
+ * archive file or register the same month: a run that finds the lock taken leaves the rest to the one holding it.
+ */
+@Slf4j
+@Service
+public class IssueHistoryArchiver {
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Advisory lock key of the archiver runs, shared by all instances
+    static final long LOCK_KEY = 0x69685f6172636876L;
+
+    private final IssueHistoryRepository historyRepository;
+    private final IssueHistoryArchiveRepository archiveRepository;
+    private final IssueHistoryArchiveStore archiveStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public IssueHistoryArchiver(IssueHistoryRepository historyRepository,
+                                IssueHistoryArchiveRepository archiveRepository,
+                                IssueHistoryArchiveStore archiveStore,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${issuetracker.history.archive.enabled:true}") boolean enabled,
+                                @Value("${issuetracker.history.archive.retention-months:12}") int retentionMonths,
+                                @Value("${issuetracker.history.archive.months-ahead:3}") int monthsAhead) {
+        this.historyRepository = historyRepository;
+        this.archiveRepository = archiveRepository;
+        this.archiveStore = archiveStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${issuetracker.history.archive.cron:0 0 4 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(YearMonth.now());
+        }
+    }
+
+    // Returns the months archived
+    public List<YearMonth> run(YearMonth currentMonth) {
+        // Rows for a month without a partition would land in the default partition, which blocks creating it later
+        boolean locked = transactionTemplate.execute(status -> {
+            if (!historyRepository.tryAdvisoryXactLock(LOCK_KEY)) {
+                return false;
+            }
+            for (int i = 0; i <= monthsAhead; i++) {
+                historyRepository.createPartition(currentMonth.plusMonths(i).atDay(1));
+            }
+            return true;
+        });
+
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        List<YearMonth> archived = new ArrayList<>();
+        if (locked) {
+            for (String partition : historyRepository.findPartitionMonths()) {
+                YearMonth month = YearMonth.parse(partition, PARTITION_MONTH);
+                if (month.isBefore(oldestKept)) {
+                    if (!archive(month)) {
+                        locked = false;
+                        break;
+                    }
+                    archived.add(month);
+                }
+            }
+        }
+        if (!locked) {
+            log.info("Issue history archiving is running on another instance; leaving the rest to it");
+        }
+        return archived;
+    }
+
+    // Returns false, without touching the month, when another run holds the lock
+    private boolean archive(YearMonth month) {
+        return transactionTemplate.execute(status -> {
+            if (!historyRepository.tryAdvisoryXactLock(LOCK_KEY)) {
+                return false;
+            }
+            if (!archiveRepository.existsById(month.atDay(1))) {
+                long rows;
+                try (Stream<IssueHistoryDTO> history = historyRepository.streamForArchive(
+                        month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay())) {
+                    rows = archiveStore.write(month, history.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                archiveRepository.save(IssueHistoryArchive.builder()
+                        .month(month.atDay(1))
+                        .filePath(archiveStore.file(month).toString())
+                        .rowCount(rows)
+                        .archivedAt(LocalDateTime.now())
+                        .build());
+                log.info("Archived {} issue history rows of {} to {}", rows, month, archiveStore.file(month));
+            }
+            historyRepository.dropPartition(month.atDay(1));
+            return true;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssueHistoryArchive;
+import com.issuetracker.repository.IssueHistoryArchiveRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// History of an issue across the database and the archived months, newest first
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IssueHistoryService {
+
+    private static final Comparator<IssueHistoryDTO> NEWEST_FIRST = Comparator
+            .comparing(IssueHistoryDTO::getChangedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(IssueHistoryDTO::getId)
+            .reversed();
+
+    private final IssueRepository issueRepository;
+    private final IssueHistoryRepository historyRepository;
+    private final IssueHistoryArchiveRepository archiveRepository;
+    private final IssueHistoryArchiveStore archiveStore;
+
+    public List<IssueHistoryDTO> getHistory(Long issueId) {
+        Issue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue", issueId));
+        List<IssueHistoryDTO> history = new ArrayList<>(historyRepository.findByIssueIdOrderByChangedAtDesc(issueId));
+
+        List<IssueHistoryArchive> archives =
+                archiveRepository.findByMonthGreaterThanEqualOrderByMonthDesc(firstMonth(issue));
+        if (archives.isEmpty()) {
+            return history;
+        }
+        for (IssueHistoryArchive archive : archives) {
+            history.addAll(read(archive, issueId));
+        }
+        history.sort(NEWEST_FIRST);
+        return history;
+    }
+
+    /**
+     * Archived history of an issue after the keyset position (afterAt, afterId), oldest first, at most limit rows.
+     * Archived months all precede the database ones, so they come first in the issue timeline. Files are read
+     * month by month from the cursor's month and only until the page is full.
+     */
+    public List<IssueHistoryDTO> getArchivedPage(Issue issue, LocalDateTime afterAt, Long afterId, int limit) {
+        LocalDate from = firstMonth(issue);
+        if (afterId != null && afterAt.toLocalDate().withDayOfMonth(1).isAfter(from)) {
+            from = afterAt.toLocalDate().withDayOfMonth(1);
+        }
+        List<IssueHistoryDTO> page = new ArrayList<>();
+        for (IssueHistoryArchive archive : archiveRepository.findByMonthGreaterThanEqualOrderByMonth(from)) {
+            // Rows of an issue are stored in (changedAt, id) order
+            for (IssueHistoryDTO row : read(archive, issue.getId())) {
+                if (afterId == null || row.getChangedAt().isAfter(afterAt)
+                        || row.getChangedAt().equals(afterAt) && row.getId() > afterId) {
+                    page.add(row);
+                    if (page.size() == limit) {
+                        return page;
+                    }
+                }
+            }
+        }
+        return page;
+    }
+
+    // An issue has no history before it was created, so older archive files are not opened
+    private static LocalDate firstMonth(Issue issue) {
+        return issue.getCreatedAt() != null
+                ? issue.getCreatedAt().toLocalDate().withDayOfMonth(1)
+                : LocalDate.EPOCH;
+    }
+
+    private List<IssueHistoryDTO> read(IssueHistoryArchive archive, Long issueId) {
+        try {
+            return archiveStore.read(Path.of(archive.getFilePath()), issueId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read issue history archive " + archive.getFilePath(), e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.IssueHistory;
+import com.issuetracker.repository.IssueHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Buffers IssueHistory rows per transaction and writes them with saveAll so Hibernate can
+ * send them as one JDBC batch. In SYNC mode the buffer is flushed just before the mutating
+ * transaction commits. In ASYNC mode it is handed to a bounded queue after commit and
+ * written by a scheduled flush; if the queue is full the rows are written immediately.
+ */
+@Slf4j
+@Component
+public class IssueHistoryWriter {
+
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    private static final Object BUFFER_KEY = IssueHistoryWriter.class.getName() + ".buffer";
+
+    private final IssueHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Mode mode;
+    private final int batchSize;
+    private final BlockingQueue<IssueHistory> pending;
+
+    public IssueHistoryWriter(IssueHistoryRepository historyRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${issuetracker.history.mode:SYNC}") Mode mode,
+                              @Value("${issuetracker.history.batch-size:500}") int batchSize,
+                              @Value("${issuetracker.history.queue-capacity:10000}") int queueCapacity) {
+        this.historyRepository = historyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public void record(IssueHistory history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            historyRepository.save(history);
+            return;
+        }
+        currentBuffer().add(history);
+    }
+
+    @Scheduled(fixedDelayString = "${issuetracker.history.flush-interval-ms:500}")
+    public void flush() {
+        List<IssueHistory> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IssueHistory> currentBuffer() {
+        List<IssueHistory> buffer = (List<IssueHistory>) TransactionSynchronizationManager.getResource(BUFFER_KEY);
+        if (buffer == null) {
+            List<IssueHistory> newBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(BUFFER_KEY, newBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (mode == Mode.SYNC) {
+                        historyRepository.saveAll(newBuffer);
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    if (mode == Mode.ASYNC) {
+                        enqueue(newBuffer);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BUFFER_KEY);
+                }
+            });
+            buffer = newBuffer;
+        }
+        return buffer;
+    }
+
+    private void enqueue(List<IssueHistory> rows) {
+        List<IssueHistory> overflow = new ArrayList<>();
+        for (IssueHistory row : rows) {
+            if (!pending.offer(row)) {
+                overflow.add(row);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("History queue full, writing {} rows synchronously", overflow.size());
+            write(overflow);
+        }
+    }
+
+    private void write(List<IssueHistory> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> historyRepository.saveAll(rows));
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} issue history rows", rows.size(), e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.issuetracker.dto.BulkImportLineResult;
+import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.IssueMapper;
+import com.issuetracker.model.Issue;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports issues from an NDJSON stream, one CreateIssueRequest per line.
+ * Lines are parsed and validated one at a time and valid ones are written in chunks, each chunk
+ * in its own transaction, so memory stays bounded by the chunk size whatever the upload size.
+ * A result is reported for every non-blank line: failed lines as soon as they are rejected,
+ * created lines once their chunk has committed.
+ */
+@Slf4j
+@Service
+public class IssueImportService {
+
+    private final IssueService issueService;
+    private final IssueMapper issueMapper;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ObjectReader requestReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public IssueImportService(IssueService issueService,
+                              IssueMapper issueMapper,
+                              ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              Validator validator,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${issuetracker.import.chunk-size:500}") int chunkSize) {
+        this.issueService = issueService;
+        this.issueMapper = issueMapper;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.requestReader = objectMapper.readerFor(CreateIssueRequest.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public void importIssues(Long projectId, InputStream ndjson, Consumer<BulkImportLineResult> results) throws IOException {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<PendingLine> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            CreateIssueRequest request;
+            try {
+                request = requestReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                results.accept(BulkImportLineResult.failed(lineNumber, Map.of("line", e.getOriginalMessage())));
+                continue;
+            }
+            // Enforce projectId from path, as for single issue creation
+            request.setProjectId(projectId);
+
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.accept(BulkImportLineResult.failed(lineNumber, errors));
+                continue;
+            }
+
+            chunk.add(new PendingLine(lineNumber, request));
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, results);
+        }
+    }
+
+    private void writeChunk(List<PendingLine> chunk, Consumer<BulkImportLineResult> results) {
+        Set<Long> reporterIds = chunk.stream()
+                .map(pending -> pending.request().getReporterId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> knownReporters = reporterIds.isEmpty() ? Set.of() : userRepository.findExistingIds(reporterIds);
+
+        List<PendingLine> valid = new ArrayList<>(chunk.size());
+        for (PendingLine pending : chunk) {
+            Long reporterId = pending.request().getReporterId();
+            if (reporterId != null && !knownReporters.contains(reporterId)) {
+                results.accept(BulkImportLineResult.failed(pending.line(),
+                        Map.of("reporterId", "User not found with id: " + reporterId)));
+            } else {
+                valid.add(pending);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<Long> issueIds;
+        try {
+            issueIds = transactionTemplate.execute(status -> issueService.createIssues(valid.stream()
+                            .map(pending -> toEntity(pending.request()))
+                            .collect(Collectors.toList())).stream()
+                    .map(Issue::getId)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            log.warn("Bulk import chunk of {} issues failed", valid.size(), e);
+            valid.forEach(pending -> results.accept(BulkImportLineResult.failed(pending.line(),
+                    Map.of("line", "Chunk could not be saved: " + e.getMessage()))));
+            return;
+        } finally {
+            // The request-scoped persistence context (open-in-view) would otherwise keep every imported issue
+            entityManager.clear();
+        }
+
+        for (int i = 0; i < valid.size(); i++) {
+            results.accept(BulkImportLineResult.created(valid.get(i).line(), issueIds.get(i)));
+        }
+    }
+
+    private Issue toEntity(CreateIssueRequest request) {
+        Issue issue = issueMapper.toEntity(request);
+        if (request.getReporterId() == null) {
+            issue.setReporter(null);
+        }
+        return issue;
+    }
+
+    private Map<String, String> validate(CreateIssueRequest request) {
+        Map<String, String> errors = new TreeMap<>();
+        for (ConstraintViolation<CreateIssueRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private record PendingLine(long line, CreateIssueRequest request) {
+    }
+}
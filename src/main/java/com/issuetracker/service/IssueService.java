@@ -1,24 +1,61 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.BatchTransitionResult;
+import com.issuetracker.dto.BatchTransitionResult.Outcome;
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.dto.TopPerformerDTO;
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.ResourceNotFoundException;
 import com.issuetracker.model.*;
 import com.issuetracker.model.Issue.IssuePriority;
 import com.issuetracker.model.Issue.IssueStatus;
 import com.issuetracker.repository.*;
+import com.issuetracker.search.IssueSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class IssueService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_REPORT_SIZE = 100;
+
+    private static final int UPDATE_BATCH_SIZE = 50;
+
     private final IssueRepository issueRepository;
-    private final IssueHistoryRepository historyRepository;
+    private final IssueHistoryWriter historyWriter;
     private final IssueCommentRepository commentRepository;
+    private final IssueSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
+    private final UserDailyClosedRepository dailyClosedRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ProjectIssueCounterService counterService;
     
     // Developer 1 & 3 repositories would be injected here
     // For now we assume we have access to stubs or we'd need their repos
@@ -29,65 +66,174 @@ public class IssueService {
     public Issue createIssue(Issue issue) {
         issue.setStatus(IssueStatus.TODO);
         issue.setCreatedAt(LocalDateTime.now());
-        // In a real scenario, we'd validate project and reporter existence here
-        return issueRepository.save(issue);
+        // In a real scenario, we'd validate project and reporter existence here.
+        Issue savedIssue = issueRepository.save(issue);
+        counterService.issueCreated(savedIssue);
+        eventPublisher.publishEvent(IssueChangedEvent.created(savedIssue));
+        return savedIssue;
     }
 
+    /**
+     * Creates a chunk of issues in one transaction, as the bulk import does: the inserts go out in JDBC
+     * batches and the counters are adjusted once per bucket for the whole chunk.
+     */
     @Transactional
-    public Issue startIssue(Long issueId) {
-        Issue issue = getIssueOrThrow(issueId);
-
-        // Workflow Rule: TODO -> IN_PROGRESS
-        if (issue.getStatus() != IssueStatus.TODO) {
-            throw new IllegalStateException("Issue must be in TODO status to start.");
+    public List<Issue> createIssues(List<Issue> issues) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (Issue issue : issues) {
+            issue.setStatus(IssueStatus.TODO);
+            issue.setCreatedAt(createdAt);
         }
+        List<Issue> savedIssues = issueRepository.saveAll(issues);
+        ProjectIssueCounterService.Deltas deltas = new ProjectIssueCounterService.Deltas();
+        savedIssues.forEach(deltas::created);
+        counterService.apply(deltas);
+        savedIssues.forEach(issue -> eventPublisher.publishEvent(IssueChangedEvent.created(issue)));
+        return savedIssues;
+    }
 
-        // SLA Rule: High Priority must have Assignee
-        if (issue.getPriority() == IssuePriority.HIGH && issue.getAssignee() == null) {
-            throw new IllegalStateException("High priority issues must be assigned before starting.");
-        }
+    @Transactional(readOnly = true)
+    public Optional<Issue> getIssueById(Long id) {
+        return issueRepository.findById(id);
+    }
+
+    /**
+     * The workflow operations take the ETag the client last saw (If-Match, null to skip the check). It is
+     * compared inside the retried transaction, so a concurrent change that forces a retry also fails the check.
+     */
+    @RetryOnConflict
+    @Transactional
+    public Issue startIssue(Long issueId, String expectedETag) {
+        Issue issue = getIssueOrThrow(issueId, expectedETag);
+        checkCanStart(issue, issue.getAssignee());
 
         IssueStatus oldStatus = issue.getStatus();
         issue.setStatus(IssueStatus.IN_PROGRESS);
         Issue savedIssue = issueRepository.save(issue);
+        counterService.statusChanged(savedIssue, oldStatus, IssueStatus.IN_PROGRESS);
         
-        logHistory(savedIssue, "STATUS", oldStatus.name(), IssueStatus.IN_PROGRESS.name(), null); // Assuming 'null' user for now, or get from SecurityContext
+        LocalDateTime changedAt = logHistory(savedIssue, "STATUS", oldStatus.name(), IssueStatus.IN_PROGRESS.name(), null); // Assuming 'null' user for now, or get from SecurityContext
+        publishChange(IssueChangedEvent.Type.STATUS_CHANGED, savedIssue, oldStatus.name(), IssueStatus.IN_PROGRESS.name(), changedAt);
         
         return savedIssue;
     }
 
+    @RetryOnConflict
     @Transactional
-    public Issue completeIssue(Long issueId) {
-        Issue issue = getIssueOrThrow(issueId);
-
-        // Workflow Rule: IN_PROGRESS -> DONE
-        if (issue.getStatus() != IssueStatus.IN_PROGRESS) {
-            throw new IllegalStateException("Issue must be in IN_PROGRESS status to complete.");
-        }
+    public Issue completeIssue(Long issueId, String expectedETag) {
+        Issue issue = getIssueOrThrow(issueId, expectedETag);
+        checkCanComplete(issue);
 
         IssueStatus oldStatus = issue.getStatus();
         issue.setStatus(IssueStatus.DONE);
+        issue.setCompletedAt(LocalDateTime.now());
         Issue savedIssue = issueRepository.save(issue);
+        recordCompletion(savedIssue);
+        counterService.statusChanged(savedIssue, oldStatus, IssueStatus.DONE);
         
-        logHistory(savedIssue, "STATUS", oldStatus.name(), IssueStatus.DONE.name(), null);
+        LocalDateTime changedAt = logHistory(savedIssue, "STATUS", oldStatus.name(), IssueStatus.DONE.name(), null);
+        publishChange(IssueChangedEvent.Type.STATUS_CHANGED, savedIssue, oldStatus.name(), IssueStatus.DONE.name(), changedAt);
         
         return savedIssue;
     }
 
+    @RetryOnConflict
     @Transactional
-    public Issue assignIssue(Long issueId, User assignee) {
-        try {
-            Issue issue = getIssueOrThrow(issueId);
-            String oldAssigneeName = issue.getAssignee() != null ? issue.getAssignee().getUsername() : "Unassigned";
-            
-            issue.setAssignee(assignee);
-            Issue savedIssue = issueRepository.save(issue);
+    public Issue assignIssue(Long issueId, User assignee, String expectedETag) {
+        Issue issue = getIssueOrThrow(issueId, expectedETag);
+        User oldAssignee = issue.getAssignee();
+        String oldAssigneeName = oldAssignee != null ? oldAssignee.getUsername() : "Unassigned";
+
+        issue.setAssignee(assignee);
+        Issue savedIssue = issueRepository.save(issue);
+        counterService.assigneeChanged(savedIssue, oldAssignee, assignee);
+        moveCompletion(savedIssue, oldAssignee, assignee);
+
+        LocalDateTime changedAt = logHistory(savedIssue, "ASSIGNEE", oldAssigneeName, assignee.getUsername(), null);
+        publishChange(IssueChangedEvent.Type.ASSIGNED, savedIssue, oldAssigneeName, assignee.getUsername(), changedAt);
+        return savedIssue;
+    }
+
+    /**
+     * Applies an assignment and/or a status transition to many issues at once. The issues are read with one
+     * query and checked against the same workflow and SLA rules as the single-issue operations; the updates
+     * go out as one version-guarded JDBC batch so a concurrent change fails only its own issue.
+     * When both are given the assignment is applied first, so it counts for the HIGH priority SLA rule.
+     */
+    @Transactional
+    public List<BatchTransitionResult> batchTransition(List<Long> issueIds, IssueStatus status, Long assigneeId) {
+        if (status == null && assigneeId == null) {
+            throw new BadRequestException("A target status or an assignee is required");
+        }
+        if (status == IssueStatus.TODO) {
+            throw new BadRequestException("Issues cannot be moved back to TODO");
+        }
+        if (issueIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " issues can be transitioned at once");
+        }
+        User assignee = assigneeId == null ? null : userRepository.findById(assigneeId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", assigneeId));
 
-            logHistory(savedIssue, "ASSIGNEE", oldAssigneeName, assignee.getUsername(), null);
-            return savedIssue;
-        } catch (OptimisticLockingFailureException e) {
-            throw new RuntimeException("Issue was updated by another user. Please refresh and try again.");
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(issueIds));
+        Map<Long, Issue> issuesById = issueRepository.findWithAssigneeByIdIn(ids).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+
+        Map<Long, BatchTransitionResult> results = new LinkedHashMap<>();
+        List<Issue> accepted = new ArrayList<>();
+        for (Long id : ids) {
+            Issue issue = issuesById.get(id);
+            if (issue == null) {
+                results.put(id, BatchTransitionResult.of(id, Outcome.NOT_FOUND, "Issue not found with id: " + id));
+                continue;
+            }
+            try {
+                if (status == IssueStatus.IN_PROGRESS) {
+                    checkCanStart(issue, assignee != null ? assignee : issue.getAssignee());
+                } else if (status == IssueStatus.DONE) {
+                    checkCanComplete(issue);
+                }
+            } catch (IllegalStateException e) {
+                results.put(id, BatchTransitionResult.of(id, Outcome.REJECTED, e.getMessage()));
+                continue;
+            }
+            results.put(id, null);
+            accepted.add(issue);
+        }
+        if (accepted.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+
+        LocalDateTime completedAt = status == IssueStatus.DONE ? LocalDateTime.now() : null;
+
+        // The loaded entities are left untouched so Hibernate doesn't flush its own UPDATEs for them
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE issue SET status = ?, assignee_id = ?, completed_at = COALESCE(?, completed_at), " +
+                "version = version + 1 WHERE id = ? AND version = ?",
+                accepted, UPDATE_BATCH_SIZE, (ps, issue) -> {
+                    User newAssignee = assignee != null ? assignee : issue.getAssignee();
+                    ps.setString(1, (status != null ? status : issue.getStatus()).name());
+                    ps.setObject(2, newAssignee != null ? newAssignee.getId() : null, Types.BIGINT);
+                    ps.setTimestamp(3, completedAt != null ? Timestamp.valueOf(completedAt) : null);
+                    ps.setLong(4, issue.getId());
+                    ps.setLong(5, issue.getVersion());
+                });
+
+        ProjectIssueCounterService.Deltas deltas = new ProjectIssueCounterService.Deltas();
+        int row = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                Issue issue = accepted.get(row++);
+                if (count == 0) {
+                    results.put(issue.getId(), BatchTransitionResult.of(issue.getId(), Outcome.CONFLICT,
+                            "Issue was updated by another user. Please refresh and try again."));
+                } else if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applyBatchedChange(issue, status, assignee, completedAt, deltas);
+                    results.put(issue.getId(), BatchTransitionResult.updated(issue.getId()));
+                }
+            }
         }
+        counterService.apply(deltas);
+        return new ArrayList<>(results.values());
     }
 
     @Transactional
@@ -95,17 +241,136 @@ public class IssueService {
         Issue issue = getIssueOrThrow(issueId);
         comment.setIssue(issue);
         comment.setCreatedAt(LocalDateTime.now());
-        return commentRepository.save(comment);
+        IssueComment savedComment = commentRepository.save(comment);
+        publishChange(IssueChangedEvent.Type.COMMENTED, issue, null, null, savedComment.getCreatedAt());
+        return savedComment;
     }
 
-    public List<Issue> searchIssues(Long projectId, IssueStatus status, String text) {
+    @Transactional(readOnly = true)
+    public CursorPage<IssueDTO> searchIssues(Long projectId, IssueStatus status, String text, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
         String searchText = text == null ? "" : text;
-        return issueRepository.searchIssues(projectId, status, searchText);
+        IssueCursor after = cursor == null || cursor.isBlank() ? null : IssueCursor.decode(cursor);
+
+        // Fetch one extra row to find out whether another page exists
+        List<IssueDTO> rows;
+        if (searchIndex.isReady()) {
+            rows = findAllInOrder(searchIndex.search(projectId, status, searchText, after, limit + 1));
+        } else {
+            rows = issueRepository.searchIssues(projectId, status, searchText,
+                    after != null ? after.getCreatedAt() : null,
+                    after != null ? after.getId() : null,
+                    Limit.of(limit + 1));
+        }
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<IssueDTO> page = new ArrayList<>(rows.subList(0, limit));
+        IssueDTO last = page.get(limit - 1);
+        return new CursorPage<>(page, new IssueCursor(last.getCreatedAt(), last.getId()).encode());
     }
     
-    public List<Object[]> getTopPerformers() {
-        // Default to last 30 days if no range provided, flexible implementation
-        return issueRepository.findTopPerformers(LocalDateTime.now().minusDays(30), LocalDateTime.now());
+    @Transactional(readOnly = true)
+    public List<IssueDTO> searchIssuesRanked(Long projectId, IssueStatus status, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return issueRepository.searchIssuesRanked(projectId, status, query.trim(), Limit.of(limit));
+    }
+
+    /**
+     * Users with the most issues completed between two days (inclusive), read from the user_daily_closed
+     * rollup. Defaults to the 30 days ending today.
+     */
+    @Transactional(readOnly = true)
+    public List<TopPerformerDTO> getTopPerformers(LocalDate from, LocalDate to, Long projectId, int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (limit < 1 || limit > MAX_REPORT_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_REPORT_SIZE);
+        }
+        return dailyClosedRepository.findTopPerformers(start, end, projectId, Limit.of(limit));
+    }
+
+    private void checkCanStart(Issue issue, User assignee) {
+        // Workflow Rule: TODO -> IN_PROGRESS
+        if (issue.getStatus() != IssueStatus.TODO) {
+            throw new IllegalStateException("Issue must be in TODO status to start.");
+        }
+
+        // SLA Rule: High Priority must have Assignee
+        if (issue.getPriority() == IssuePriority.HIGH && assignee == null) {
+            throw new IllegalStateException("High priority issues must be assigned before starting.");
+        }
+    }
+
+    private void checkCanComplete(Issue issue) {
+        // Workflow Rule: IN_PROGRESS -> DONE
+        if (issue.getStatus() != IssueStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Issue must be in IN_PROGRESS status to complete.");
+        }
+    }
+
+    // Keeps the top-performers rollup in step with the status change, in the same transaction
+    private void recordCompletion(Issue issue) {
+        if (issue.getAssignee() != null) {
+            dailyClosedRepository.addClosed(issue.getAssignee().getId(), issue.getProject().getId(),
+                    issue.getCompletedAt().toLocalDate(), 1);
+        }
+    }
+
+    // Reassigning a DONE issue moves its completion credit to the new assignee, on the original completion day
+    private void moveCompletion(Issue issue, User oldAssignee, User newAssignee) {
+        if (issue.getStatus() != IssueStatus.DONE || issue.getCompletedAt() == null) {
+            return;
+        }
+        Long oldId = oldAssignee != null ? oldAssignee.getId() : null;
+        Long newId = newAssignee != null ? newAssignee.getId() : null;
+        if (Objects.equals(oldId, newId)) {
+            return;
+        }
+        LocalDate closedOn = issue.getCompletedAt().toLocalDate();
+        if (oldId != null) {
+            dailyClosedRepository.addClosed(oldId, issue.getProject().getId(), closedOn, -1);
+        }
+        if (newId != null) {
+            dailyClosedRepository.addClosed(newId, issue.getProject().getId(), closedOn, 1);
+        }
+    }
+
+    // Mirrors a row already written by batchTransition onto a detached copy, for history and events
+    private void applyBatchedChange(Issue issue, IssueStatus status, User assignee, LocalDateTime completedAt,
+                                    ProjectIssueCounterService.Deltas deltas) {
+        entityManager.detach(issue);
+        issue.setVersion(issue.getVersion() + 1);
+        if (assignee != null) {
+            String oldAssigneeName = issue.getAssignee() != null ? issue.getAssignee().getUsername() : "Unassigned";
+            deltas.assigneeChanged(issue, issue.getAssignee(), assignee);
+            moveCompletion(issue, issue.getAssignee(), assignee);
+            issue.setAssignee(assignee);
+            LocalDateTime changedAt = logHistory(issue, "ASSIGNEE", oldAssigneeName, assignee.getUsername(), null);
+            publishChange(IssueChangedEvent.Type.ASSIGNED, issue, oldAssigneeName, assignee.getUsername(), changedAt);
+        }
+        if (status != null) {
+            IssueStatus oldStatus = issue.getStatus();
+            deltas.statusChanged(issue, oldStatus, status);
+            issue.setStatus(status);
+            if (completedAt != null) {
+                issue.setCompletedAt(completedAt);
+                recordCompletion(issue);
+            }
+            LocalDateTime changedAt = logHistory(issue, "STATUS", oldStatus.name(), status.name(), null);
+            publishChange(IssueChangedEvent.Type.STATUS_CHANGED, issue, oldStatus.name(), status.name(), changedAt);
+        }
     }
 
     private Issue getIssueOrThrow(Long id) {
@@ -113,7 +378,33 @@ public class IssueService {
                 .orElseThrow(() -> new IllegalArgumentException("Issue found with id: " + id));
     }
 
-    private void logHistory(Issue issue, String field, String oldValue, String newValue, User changedBy) {
+    private Issue getIssueOrThrow(Long id, String expectedETag) {
+        Issue issue = getIssueOrThrow(id);
+        if (expectedETag != null) {
+            EntityTags.checkIfMatch(expectedETag, EntityTags.of(issue));
+        }
+        return issue;
+    }
+
+    private List<IssueDTO> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, IssueDTO> byId = issueRepository.findDTOsByIdIn(ids).stream()
+                .collect(Collectors.toMap(IssueDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // occurredAt is the time stored with the change (history row or comment), which the change feed resumes from
+    private void publishChange(IssueChangedEvent.Type type, Issue issue, String oldValue, String newValue,
+                               LocalDateTime occurredAt) {
+        eventPublisher.publishEvent(new IssueChangedEvent(type, issue, oldValue, newValue, occurredAt));
+    }
+
+    private LocalDateTime logHistory(Issue issue, String field, String oldValue, String newValue, User changedBy) {
         IssueHistory history = new IssueHistory();
         history.setIssue(issue);
         history.setOldStatus(field.equals("STATUS") ? oldValue : null); // Simple mapping for now
@@ -122,6 +413,7 @@ public class IssueService {
         history.setNewAssigneeName(field.equals("ASSIGNEE") ? newValue : null);
         history.setChangedBy(changedBy);
         history.setChangedAt(LocalDateTime.now());
-        historyRepository.save(history);
+        historyWriter.record(history);
+        return history.getChangedAt();
     }
 }
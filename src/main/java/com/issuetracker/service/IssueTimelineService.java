@@ -0,0 +1,73 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.dto.TimelineEntryDTO;
+import com.issuetracker.dto.TimelineEntryDTO.Type;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.repository.IssueCommentRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Comments and history of an issue as one oldest-first timeline, a page at a time. Each page reads at most
+ * limit + 1 rows from each source with a keyset query and merges them, so the cost of a page does not grow
+ * with the issue's event count. History of archived months (see {@link IssueHistoryService}) precedes the
+ * database rows and is read from the archive files while the cursor is still in an archived month.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IssueTimelineService {
+
+    private static final Comparator<TimelineEntryDTO> TIMELINE_ORDER = Comparator
+            .comparing(TimelineEntryDTO::getOccurredAt)
+            .thenComparing(TimelineEntryDTO::getType)
+            .thenComparing(TimelineEntryDTO::getId);
+
+    private final IssueRepository issueRepository;
+    private final IssueCommentRepository commentRepository;
+    private final IssueHistoryRepository historyRepository;
+    private final IssueHistoryService historyService;
+
+    public CursorPage<TimelineEntryDTO> getTimeline(Long issueId, String cursor, int limit) {
+        if (limit < 1 || limit > IssueService.MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + IssueService.MAX_PAGE_SIZE);
+        }
+        Issue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue", issueId));
+        TimelineCursor after = cursor == null || cursor.isBlank() ? null : TimelineCursor.decode(cursor);
+        LocalDateTime afterAt = after != null ? after.getOccurredAt() : null;
+        Long afterHistoryId = after != null ? after.afterId(Type.HISTORY) : null;
+
+        // One extra row from each source tells whether another page exists
+        List<TimelineEntryDTO> rows = new ArrayList<>(commentRepository.findTimelinePage(issueId, afterAt,
+                after != null ? after.afterId(Type.COMMENT) : null, Limit.of(limit + 1)));
+        List<IssueHistoryDTO> history = historyService.getArchivedPage(issue, afterAt, afterHistoryId, limit + 1);
+        // Database history is newer than any archived row, so it is only needed when the archive ran short
+        if (history.size() <= limit) {
+            history = new ArrayList<>(history);
+            history.addAll(historyRepository.findTimelinePage(issueId, afterAt, afterHistoryId,
+                    Limit.of(limit + 1 - history.size())));
+        }
+        history.forEach(change -> rows.add(TimelineEntryDTO.of(change)));
+        rows.sort(TIMELINE_ORDER);
+
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<TimelineEntryDTO> page = new ArrayList<>(rows.subList(0, limit));
+        return new CursorPage<>(page, TimelineCursor.of(page.get(limit - 1)).encode());
+    }
+}
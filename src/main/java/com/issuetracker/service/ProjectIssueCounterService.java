@@ -0,0 +1,167 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ProjectSummaryDTO;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.ProjectIssueCounter;
+import com.issuetracker.model.ProjectIssueCounter.Dimension;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.ProjectIssueCounterRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Per-project issue counts by status, priority, type and assignee. IssueService adjusts them inside each
+ * mutating transaction; a scheduled reconciliation compares them with the issue table and corrects drift
+ * (e.g. from rows changed outside the application).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectIssueCounterService {
+
+    private final ProjectIssueCounterRepository counterRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    public void issueCreated(Issue issue) {
+        apply(new Deltas().created(issue));
+    }
+
+    public void statusChanged(Issue issue, IssueStatus from, IssueStatus to) {
+        apply(new Deltas().statusChanged(issue, from, to));
+    }
+
+    public void assigneeChanged(Issue issue, User from, User to) {
+        apply(new Deltas().assigneeChanged(issue, from, to));
+    }
+
+    // Rows are adjusted in key order so concurrent transactions lock them in the same order
+    public void apply(Deltas deltas) {
+        deltas.values.forEach((key, delta) -> {
+            if (delta != 0) {
+                counterRepository.adjust(key.getProjectId(), key.getDimension(), key.getBucket(), delta);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectSummaryDTO getSummary(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+        Map<Dimension, Map<String, Long>> counts = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            counts.put(dimension, new TreeMap<>());
+        }
+        for (ProjectIssueCounter counter : counterRepository.findByProjectId(projectId)) {
+            if (counter.getIssueCount() > 0) {
+                counts.get(counter.getDimension()).put(counter.getBucket(), counter.getIssueCount());
+            }
+        }
+
+        Map<String, Long> byAssigneeId = counts.get(Dimension.ASSIGNEE);
+        List<Long> userIds = byAssigneeId.keySet().stream()
+                .filter(bucket -> !ProjectIssueCounter.UNASSIGNED.equals(bucket))
+                .map(Long::valueOf)
+                .toList();
+        Map<Long, String> usernames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+        List<ProjectSummaryDTO.AssigneeCount> byAssignee = byAssigneeId.entrySet().stream()
+                .map(entry -> {
+                    Long userId = ProjectIssueCounter.UNASSIGNED.equals(entry.getKey()) ? null : Long.valueOf(entry.getKey());
+                    return new ProjectSummaryDTO.AssigneeCount(userId, usernames.get(userId), entry.getValue());
+                })
+                .sorted(Comparator.comparingLong(ProjectSummaryDTO.AssigneeCount::getCount).reversed())
+                .toList();
+
+        long total = counts.get(Dimension.STATUS).values().stream().mapToLong(Long::longValue).sum();
+        return new ProjectSummaryDTO(projectId, total, counts.get(Dimension.STATUS), counts.get(Dimension.PRIORITY),
+                counts.get(Dimension.TYPE), byAssignee);
+    }
+
+    /**
+     * Corrects every counter that differs from a fresh count of the issue table and reports the drift.
+     * Corrections are applied as deltas, so mutations committing meanwhile are not overwritten.
+     * Returns the number of buckets that had drifted.
+     */
+    @Scheduled(cron = "${issuetracker.counters.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public int reconcile() {
+        List<Object[]> drift = counterRepository.findDrift();
+        long total = 0;
+        for (Object[] row : drift) {
+            Long projectId = ((Number) row[0]).longValue();
+            Dimension dimension = Dimension.valueOf((String) row[1]);
+            String bucket = (String) row[2];
+            long delta = ((Number) row[3]).longValue();
+            log.warn("Project {} counter {}/{} was off by {}", projectId, dimension, bucket, -delta);
+            counterRepository.adjust(projectId, dimension, bucket, delta);
+            total += Math.abs(delta);
+        }
+        counterRepository.deleteEmpty();
+        meterRegistry.counter("issuetracker.project.counters.drift").increment(total);
+        if (!drift.isEmpty()) {
+            log.warn("Reconciled {} project issue counters, total drift {}", drift.size(), total);
+        }
+        return drift.size();
+    }
+
+    /**
+     * Counter changes collected over several issues (e.g. a batch transition) and written once per bucket.
+     */
+    public static class Deltas {
+
+        private final Map<ProjectIssueCounter.Key, Long> values = new TreeMap<>(
+                Comparator.comparing(ProjectIssueCounter.Key::getProjectId)
+                        .thenComparing(ProjectIssueCounter.Key::getDimension)
+                        .thenComparing(ProjectIssueCounter.Key::getBucket));
+
+        public Deltas created(Issue issue) {
+            add(issue, Dimension.STATUS, bucket(issue.getStatus()), 1);
+            add(issue, Dimension.PRIORITY, bucket(issue.getPriority()), 1);
+            add(issue, Dimension.TYPE, bucket(issue.getType()), 1);
+            add(issue, Dimension.ASSIGNEE, bucket(issue.getAssignee()), 1);
+            return this;
+        }
+
+        public Deltas statusChanged(Issue issue, IssueStatus from, IssueStatus to) {
+            add(issue, Dimension.STATUS, bucket(from), -1);
+            add(issue, Dimension.STATUS, bucket(to), 1);
+            return this;
+        }
+
+        public Deltas assigneeChanged(Issue issue, User from, User to) {
+            add(issue, Dimension.ASSIGNEE, bucket(from), -1);
+            add(issue, Dimension.ASSIGNEE, bucket(to), 1);
+            return this;
+        }
+
+        Map<ProjectIssueCounter.Key, Long> values() {
+            return values;
+        }
+
+        private void add(Issue issue, Dimension dimension, String bucket, long delta) {
+            values.merge(new ProjectIssueCounter.Key(issue.getProject().getId(), dimension, bucket), delta, Long::sum);
+        }
+
+        private static String bucket(Enum<?> value) {
+            return value != null ? value.name() : ProjectIssueCounter.NONE;
+        }
+
+        private static String bucket(User user) {
+            return user != null && user.getId() != null ? user.getId().toString() : ProjectIssueCounter.UNASSIGNED;
+        }
+    }
+}
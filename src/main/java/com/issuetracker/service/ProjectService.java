@@ -1,10 +1,13 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.exception.BadRequestException;
 import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.ProjectMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Team;
 import com.issuetracker.model.User;
+import com.issuetracker.outbox.OutboxWriter;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.TeamRepository;
 import com.issuetracker.repository.UserRepository;
@@ -23,12 +26,14 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final ProjectMapper projectMapper;
+    private final OutboxWriter outboxWriter;
 
     public Project createProject(Project project) {
         if (project.getKey() != null && projectRepository.existsByKey(project.getKey())) {
             throw new BadRequestException("Project key already exists: " + project.getKey());
         }
-        return projectRepository.save(project);
+        return recordChange(projectRepository.save(project), "created");
     }
 
     @Transactional(readOnly = true)
@@ -36,6 +41,11 @@ public class ProjectService {
         return projectRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersion() {
+        return projectRepository.findCollectionVersion();
+    }
+
     @Transactional(readOnly = true)
     public Optional<Project> getProjectById(Long id) {
         return projectRepository.findById(id);
@@ -46,22 +56,43 @@ public class ProjectService {
         return projectRepository.findByKey(key);
     }
 
-    public Project updateProject(Project project) {
-        Project existingProject = projectRepository.findById(project.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Project", project.getId()));
+    /**
+     * Applies the name, key and description of changes, and its team and lead when set, to the stored project.
+     * The ETag the client last saw (If-Match, null to skip the check) is compared in this transaction against
+     * the version that is written, so a concurrent update forces a retry that then fails the check.
+     */
+    @RetryOnConflict
+    public Project updateProject(Project changes, String expectedETag) {
+        Project project = projectRepository.findById(changes.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Project", changes.getId()));
+        if (expectedETag != null) {
+            EntityTags.checkIfMatch(expectedETag, EntityTags.of(project));
+        }
 
-        if (project.getKey() != null && !project.getKey().equals(existingProject.getKey())) {
-            if (projectRepository.existsByKey(project.getKey())) {
-                throw new BadRequestException("Project key already exists: " + project.getKey());
+        if (changes.getKey() != null && !changes.getKey().equals(project.getKey())) {
+            if (projectRepository.existsByKey(changes.getKey())) {
+                throw new BadRequestException("Project key already exists: " + changes.getKey());
             }
         }
 
-        return projectRepository.save(project);
+        project.setName(changes.getName());
+        project.setKey(changes.getKey());
+        project.setDescription(changes.getDescription());
+        if (changes.getTeam() != null) {
+            project.setTeam(teamRepository.findById(changes.getTeam().getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Team", changes.getTeam().getId())));
+        }
+        if (changes.getLead() != null) {
+            project.setLead(userRepository.findById(changes.getLead().getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", changes.getLead().getId())));
+        }
+        return recordChange(projectRepository.save(project), "updated");
     }
 
     public void deleteProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", id));
+        recordChange(project, "deleted");
         projectRepository.delete(project);
     }
 
@@ -71,7 +102,7 @@ public class ProjectService {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", teamId));
         project.setTeam(team);
-        return projectRepository.save(project);
+        return recordChange(projectRepository.save(project), "team-assigned");
     }
 
     public Project assignLeadToProject(Long projectId, Long userId) {
@@ -80,7 +111,21 @@ public class ProjectService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", userId));
         project.setLead(user);
-        return projectRepository.save(project);
+        return recordChange(projectRepository.save(project), "lead-assigned");
+    }
+
+    public Project removeTeamFromProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        project.setTeam(null);
+        return recordChange(projectRepository.save(project), "updated");
+    }
+
+    public Project removeLeadFromProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        project.setLead(null);
+        return recordChange(projectRepository.save(project), "updated");
     }
 
     @Transactional(readOnly = true)
@@ -92,4 +137,9 @@ public class ProjectService {
     public List<Project> getProjectsByLead(Long userId) {
         return projectRepository.findByLeadId(userId);
     }
+
+    private Project recordChange(Project project, String eventType) {
+        outboxWriter.append(OutboxWriter.PROJECT, project.getId(), eventType, projectMapper.toDTO(project));
+        return project;
+    }
 }
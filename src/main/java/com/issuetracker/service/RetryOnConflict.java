@@ -0,0 +1,26 @@
+package com.issuetracker.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+/**
+ * Re-runs a transactional mutation when its optimistic lock check fails, with jittered exponential backoff
+ * (see issuetracker.retry.*). Each attempt starts a new transaction and re-reads the entity, so the change
+ * is re-applied to the current version; the last OptimisticLockingFailureException propagates once
+ * attempts run out. Only for methods that are not called from inside another transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${issuetracker.retry.max-attempts:4}",
+        backoff = @Backoff(delayExpression = "${issuetracker.retry.initial-delay-ms:20}",
+                maxDelayExpression = "${issuetracker.retry.max-delay-ms:500}",
+                multiplierExpression = "${issuetracker.retry.multiplier:2}",
+                random = true),
+        listeners = "conflictRetryListener")
+public @interface RetryOnConflict {
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
+// Roles are served from Hibernate's entity and query caches, which hand out copies and are invalidated on every write
 @Service
 @RequiredArgsConstructor
 @Transactional
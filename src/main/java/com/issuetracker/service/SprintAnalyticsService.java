@@ -0,0 +1,186 @@
+package com.issuetracker.service;
+
+import com.issuetracker.config.CachingConfig;
+import com.issuetracker.dto.BurndownDTO;
+import com.issuetracker.dto.IssueStatusChange;
+import com.issuetracker.dto.VelocityDTO;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Sprint;
+import com.issuetracker.model.SprintDailySnapshot;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.SprintDailySnapshotRepository;
+import com.issuetracker.repository.SprintRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Burndown and velocity computed from issue history status transitions of the issues currently in a sprint.
+ * Done counts per day come from one ordered pass over the history; for sprints with daily snapshots only the
+ * history recorded after the last snapshot is read. Closed sprints are cached, their burndown no longer changes.
+ */
+@Slf4j
+@Service
+public class SprintAnalyticsService {
+
+    public static final int MAX_VELOCITY_SPRINTS = 50;
+
+    private static final String DONE = IssueStatus.DONE.name();
+
+    private final SprintRepository sprintRepository;
+    private final IssueRepository issueRepository;
+    private final IssueHistoryRepository historyRepository;
+    private final SprintDailySnapshotRepository snapshotRepository;
+    private final Cache closedBurndowns;
+
+    public SprintAnalyticsService(SprintRepository sprintRepository,
+                                  IssueRepository issueRepository,
+                                  IssueHistoryRepository historyRepository,
+                                  SprintDailySnapshotRepository snapshotRepository,
+                                  CacheManager cacheManager) {
+        this.sprintRepository = sprintRepository;
+        this.issueRepository = issueRepository;
+        this.historyRepository = historyRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.closedBurndowns = cacheManager.getCache(CachingConfig.SPRINT_BURNDOWNS);
+    }
+
+    @Transactional(readOnly = true)
+    public BurndownDTO getBurndown(Long sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", sprintId));
+        return burndown(sprint, LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public VelocityDTO getVelocity(Long projectId, int limit) {
+        if (limit < 1 || limit > MAX_VELOCITY_SPRINTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_VELOCITY_SPRINTS);
+        }
+        LocalDate today = LocalDate.now();
+        List<VelocityDTO.SprintVelocity> sprints = new ArrayList<>();
+        for (Sprint sprint : sprintRepository.findByProjectIdOrderByStartDateDesc(projectId)) {
+            if (!sprint.getEndDate().isBefore(today)) {
+                continue;
+            }
+            BurndownDTO burndown = burndown(sprint, today);
+            List<BurndownDTO.Point> points = burndown.getPoints();
+            long remaining = points.isEmpty() ? burndown.getTotalIssues() : points.get(points.size() - 1).getRemaining();
+            sprints.add(new VelocityDTO.SprintVelocity(sprint.getId(), sprint.getName(), sprint.getStartDate(),
+                    sprint.getEndDate(), burndown.getTotalIssues(), burndown.getTotalIssues() - remaining));
+            if (sprints.size() == limit) {
+                break;
+            }
+        }
+        double average = sprints.stream().mapToLong(VelocityDTO.SprintVelocity::getCompleted).average().orElse(0);
+        return new VelocityDTO(projectId, sprints, average);
+    }
+
+    // Records yesterday (and any missed days) for every sprint that was running yesterday
+    @Scheduled(cron = "${issuetracker.sprint.snapshot-cron:0 5 0 * * *}")
+    @Transactional
+    public void snapshotActiveSprints() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        for (Sprint sprint : sprintRepository.findActiveOn(yesterday)) {
+            DoneCounts counts = doneCounts(sprint, yesterday);
+            for (int day = counts.snapshotted(); day < counts.byDay().length; day++) {
+                snapshotRepository.save(new SprintDailySnapshot(sprint.getId(),
+                        sprint.getStartDate().plusDays(day), counts.byDay()[day]));
+            }
+            log.debug("Snapshotted sprint {} through {}", sprint.getId(), yesterday);
+        }
+    }
+
+    private BurndownDTO burndown(Sprint sprint, LocalDate today) {
+        boolean closed = sprint.getEndDate().isBefore(today);
+        if (closed) {
+            BurndownDTO cached = closedBurndowns.get(sprint.getId(), BurndownDTO.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long total = issueRepository.countBySprintId(sprint.getId());
+        LocalDate lastDay = closed ? sprint.getEndDate() : today;
+        long[] doneByDay = lastDay.isBefore(sprint.getStartDate()) ? new long[0] : doneCounts(sprint, lastDay).byDay();
+
+        // Ideal line runs from the total on the first day to zero on the last
+        long sprintDays = ChronoUnit.DAYS.between(sprint.getStartDate(), sprint.getEndDate());
+        List<BurndownDTO.Point> points = new ArrayList<>(doneByDay.length);
+        for (int day = 0; day < doneByDay.length; day++) {
+            double ideal = sprintDays == 0 ? 0 : total * (1 - (double) day / sprintDays);
+            points.add(new BurndownDTO.Point(sprint.getStartDate().plusDays(day),
+                    Math.max(0, total - doneByDay[day]), ideal));
+        }
+
+        BurndownDTO burndown = new BurndownDTO(sprint.getId(), sprint.getName(), sprint.getStartDate(),
+                sprint.getEndDate(), closed, total, points);
+        if (closed) {
+            closedBurndowns.put(sprint.getId(), burndown);
+        }
+        return burndown;
+    }
+
+    /**
+     * Done issue count at the end of each day from the sprint start through lastDay. Days covered by an
+     * unbroken run of snapshots from the start are taken as is; the rest is replayed from history after them.
+     */
+    private DoneCounts doneCounts(Sprint sprint, LocalDate lastDay) {
+        LocalDate start = sprint.getStartDate();
+        long[] byDay = new long[(int) ChronoUnit.DAYS.between(start, lastDay) + 1];
+
+        int snapshotted = 0;
+        for (SprintDailySnapshot snapshot : snapshotRepository
+                .findBySprintIdAndSnapshotDateBetweenOrderBySnapshotDate(sprint.getId(), start, lastDay)) {
+            if (!snapshot.getSnapshotDate().equals(start.plusDays(snapshotted))) {
+                break;
+            }
+            byDay[snapshotted++] = snapshot.getDoneCount();
+        }
+        if (snapshotted == byDay.length) {
+            return new DoneCounts(byDay, snapshotted);
+        }
+
+        long done = snapshotted > 0 ? byDay[snapshotted - 1] : 0;
+        LocalDateTime from = snapshotted > 0 ? start.plusDays(snapshotted).atStartOfDay() : null;
+        int day = snapshotted;
+        try (Stream<IssueStatusChange> changes = historyRepository.streamSprintStatusChanges(
+                sprint.getId(), from, lastDay.plusDays(1).atStartOfDay())) {
+            Iterator<IssueStatusChange> it = changes.iterator();
+            while (it.hasNext()) {
+                IssueStatusChange change = it.next();
+                LocalDate changeDay = change.getChangedAt().toLocalDate();
+                // Close every day that ended before this change; changes before the sprint start only move the count
+                while (day < byDay.length && changeDay.isAfter(start.plusDays(day))) {
+                    byDay[day++] = done;
+                }
+                if (DONE.equals(change.getNewStatus()) && !DONE.equals(change.getOldStatus())) {
+                    done++;
+                } else if (DONE.equals(change.getOldStatus()) && !DONE.equals(change.getNewStatus())) {
+                    done--;
+                }
+            }
+        }
+        while (day < byDay.length) {
+            byDay[day++] = done;
+        }
+        return new DoneCounts(byDay, snapshotted);
+    }
+
+    private record DoneCounts(long[] byDay, int snapshotted) {
+    }
+}
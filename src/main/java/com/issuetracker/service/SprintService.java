@@ -1,12 +1,17 @@
 package com.issuetracker.service;
 
+import com.issuetracker.config.CachingConfig;
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.exception.BadRequestException;
 import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.SprintMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Sprint;
+import com.issuetracker.outbox.OutboxWriter;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.SprintRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +26,8 @@ public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final ProjectRepository projectRepository;
+    private final SprintMapper sprintMapper;
+    private final OutboxWriter outboxWriter;
 
     public Sprint createSprint(Sprint sprint) {
         if (sprint.getStartDate().isAfter(sprint.getEndDate())) {
@@ -37,7 +44,7 @@ public class SprintService {
         }
 
         sprint.setProject(project);
-        return sprintRepository.save(sprint);
+        return recordChange(sprintRepository.save(sprint), "created");
     }
 
     @Transactional(readOnly = true)
@@ -45,42 +52,68 @@ public class SprintService {
         return sprintRepository.findAllWithProject();
     }
 
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersion() {
+        return sprintRepository.findCollectionVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersionByProject(Long projectId) {
+        return sprintRepository.findCollectionVersionByProjectId(projectId);
+    }
+
     @Transactional(readOnly = true)
     public Optional<Sprint> getSprintById(Long id) {
         return sprintRepository.findByIdWithProject(id);
     }
 
-    public Sprint updateSprint(Sprint sprint) {
-        Sprint existingSprint = sprintRepository.findById(sprint.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Sprint", sprint.getId()));
+    /**
+     * Applies the name, dates and project of changes to the stored sprint. The ETag the client last saw
+     * (If-Match, null to skip the check) is compared in this transaction against the version that is written,
+     * so a concurrent update forces a retry that then fails the check. Dates may move, so a cached closed-sprint
+     * burndown no longer applies.
+     */
+    @RetryOnConflict
+    @CacheEvict(cacheNames = CachingConfig.SPRINT_BURNDOWNS, key = "#changes.id")
+    public Sprint updateSprint(Sprint changes, String expectedETag) {
+        Sprint sprint = sprintRepository.findById(changes.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", changes.getId()));
+        if (expectedETag != null) {
+            EntityTags.checkIfMatch(expectedETag, EntityTags.of(sprint));
+        }
 
-        if (sprint.getStartDate().isAfter(sprint.getEndDate())) {
+        if (changes.getStartDate().isAfter(changes.getEndDate())) {
             throw new BadRequestException("Start date must be before or equal to end date");
         }
 
         Project project;
-        if (!existingSprint.getProject().getId().equals(sprint.getProject().getId())) {
-            project = projectRepository.findById(sprint.getProject().getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Project", sprint.getProject().getId()));
+        if (!sprint.getProject().getId().equals(changes.getProject().getId())) {
+            project = projectRepository.findById(changes.getProject().getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", changes.getProject().getId()));
         } else {
-            project = existingSprint.getProject();
+            project = sprint.getProject();
         }
 
         List<Sprint> overlappingSprints = sprintRepository.findOverlappingSprints(
-                project.getId(), sprint.getStartDate(), sprint.getEndDate());
+                project.getId(), changes.getStartDate(), changes.getEndDate());
         boolean hasOverlap = overlappingSprints.stream()
                 .anyMatch(s -> !s.getId().equals(sprint.getId()));
         if (hasOverlap) {
             throw new BadRequestException("Sprint overlaps with existing sprint in the project");
         }
 
+        sprint.setName(changes.getName());
+        sprint.setStartDate(changes.getStartDate());
+        sprint.setEndDate(changes.getEndDate());
         sprint.setProject(project);
-        return sprintRepository.save(sprint);
+        return recordChange(sprintRepository.save(sprint), "updated");
     }
 
+    @CacheEvict(cacheNames = CachingConfig.SPRINT_BURNDOWNS, key = "#id")
     public void deleteSprint(Long id) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Sprint", id));
+        recordChange(sprint, "deleted");
         sprintRepository.delete(sprint);
     }
 
@@ -98,4 +131,9 @@ public class SprintService {
     public List<Sprint> getSprintsByProjectOrderByStartDate(Long projectId) {
         return sprintRepository.findByProjectIdOrderByStartDateDesc(projectId);
     }
+
+    private Sprint recordChange(Sprint sprint, String eventType) {
+        outboxWriter.append(OutboxWriter.SPRINT, sprint.getId(), eventType, sprintMapper.toDTO(sprint));
+        return sprint;
+    }
 }
@@ -1,5 +1,6 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.Team;
 import com.issuetracker.model.TeamMember;
 import com.issuetracker.model.User;
@@ -31,6 +32,11 @@ public class TeamService {
         return teamRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersion() {
+        return teamRepository.findCollectionVersion();
+    }
+
     @Transactional(readOnly = true)
     public Optional<Team> getTeamById(Long id) {
         return teamRepository.findById(id);
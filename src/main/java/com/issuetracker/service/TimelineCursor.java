@@ -0,0 +1,57 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.TimelineEntryDTO;
+import com.issuetracker.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (occurredAt, type, id) ordering of an issue timeline, encoded like {@link IssueCursor}.
+ */
+@Getter
+@AllArgsConstructor
+public class TimelineCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime occurredAt;
+    private final TimelineEntryDTO.Type type;
+    private final Long id;
+
+    public static TimelineCursor of(TimelineEntryDTO entry) {
+        return new TimelineCursor(entry.getOccurredAt(), entry.getType(), entry.getId());
+    }
+
+    /**
+     * The id to continue after within one source (comments or history) at {@link #getOccurredAt()}: all of
+     * that instant for a source ordered after the cursor's, none for one ordered before it.
+     */
+    public long afterId(TimelineEntryDTO.Type source) {
+        int cmp = source.compareTo(type);
+        return cmp == 0 ? id : cmp > 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    public String encode() {
+        String raw = occurredAt + SEPARATOR + type + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), TimelineEntryDTO.Type.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.model.Role;
 import com.issuetracker.model.User;
 import com.issuetracker.repository.RoleRepository;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,11 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersion() {
+        return userRepository.findCollectionVersion();
+    }
+
     @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
@@ -58,6 +65,8 @@ public class UserService {
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new RuntimeException("Role not found"));
         user.addRole(role);
+        // Only the join table changes, so @PreUpdate would not fire; the roles are part of the user's ETag
+        user.setUpdatedAt(LocalDateTime.now());
         return userRepository.save(user);
     }
 
@@ -67,6 +76,7 @@ public class UserService {
         Role role = roleRepository.findById(roleId)
                 .orElseThrow(() -> new RuntimeException("Role not found"));
         user.removeRole(role);
+        user.setUpdatedAt(LocalDateTime.now());
         return userRepository.save(user);
     }
 
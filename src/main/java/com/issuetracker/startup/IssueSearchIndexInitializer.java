@@ -0,0 +1,21 @@
+package com.issuetracker.startup;
+
+import com.issuetracker.search.IssueSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IssueSearchIndexInitializer implements ApplicationRunner {
+
+    private final IssueSearchIndex issueSearchIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (issueSearchIndex.isEnabled()) {
+            issueSearchIndex.rebuild();
+        }
+    }
+}
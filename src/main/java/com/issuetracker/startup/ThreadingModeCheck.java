@@ -0,0 +1,26 @@
+package com.issuetracker.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Spring Boot silently keeps platform threads when virtual threads are requested on a JVM older than 21
+@Slf4j
+@Component
+public class ThreadingModeCheck implements ApplicationRunner {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; running on platform threads",
+                    Runtime.version().feature());
+        } else if (virtualThreads) {
+            log.info("Serving requests on virtual threads");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- Completion time wasn't stored, so the top-performers report filtered on created_at.
+-- Backfill from the last DONE transition in history, falling back to created_at.
+ALTER TABLE issue ADD COLUMN completed_at TIMESTAMP;
+
+UPDATE issue i
+SET completed_at = COALESCE(
+        (SELECT MAX(h.changed_at) FROM issue_history h WHERE h.issue_id = i.id AND h.new_status = 'DONE'),
+        i.created_at)
+WHERE i.status = 'DONE';
+
+-- Issues closed per assignee, project and day; maintained by IssueService when an issue is completed
+CREATE TABLE user_daily_closed (
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    closed_on DATE NOT NULL,
+    closed_count INT NOT NULL,
+    PRIMARY KEY (user_id, project_id, closed_on),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_user_daily_closed_closed_on ON user_daily_closed(closed_on);
+
+INSERT INTO user_daily_closed (user_id, project_id, closed_on, closed_count)
+SELECT assignee_id, project_id, CAST(completed_at AS DATE), COUNT(*)
+FROM issue
+WHERE status = 'DONE' AND assignee_id IS NOT NULL
+GROUP BY assignee_id, project_id, CAST(completed_at AS DATE);
@@ -0,0 +1,9 @@
+-- Issues of a sprint that were DONE at the end of each day, written nightly for active sprints
+-- so burndowns only stream history recorded since the last snapshot
+CREATE TABLE sprint_daily_snapshot (
+    sprint_id BIGINT NOT NULL,
+    snapshot_date DATE NOT NULL,
+    done_count BIGINT NOT NULL,
+    PRIMARY KEY (sprint_id, snapshot_date),
+    FOREIGN KEY (sprint_id) REFERENCES sprints(id) ON DELETE CASCADE
+);
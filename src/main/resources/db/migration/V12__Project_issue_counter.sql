@@ -0,0 +1,20 @@
+-- Issue counts per project by status, priority, type and assignee, kept current by IssueService
+-- and checked against the issue table by ProjectIssueCounterService.reconcile
+CREATE TABLE project_issue_counter (
+    project_id BIGINT NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    bucket VARCHAR(50) NOT NULL,
+    issue_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, dimension, bucket),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+INSERT INTO project_issue_counter (project_id, dimension, bucket, issue_count)
+SELECT project_id, 'STATUS', COALESCE(status, 'NONE'), COUNT(*) FROM issue GROUP BY project_id, status
+UNION ALL
+SELECT project_id, 'PRIORITY', COALESCE(priority, 'NONE'), COUNT(*) FROM issue GROUP BY project_id, priority
+UNION ALL
+SELECT project_id, 'TYPE', COALESCE(type, 'NONE'), COUNT(*) FROM issue GROUP BY project_id, type
+UNION ALL
+SELECT project_id, 'ASSIGNEE', COALESCE(CAST(assignee_id AS VARCHAR(20)), 'UNASSIGNED'), COUNT(*)
+FROM issue GROUP BY project_id, assignee_id;
@@ -0,0 +1,18 @@
+-- Indexes shaped after the hot queries rather than the foreign keys; IssueQueryPlanTest checks the plans.
+-- Built CONCURRENTLY outside a transaction (see the .conf), so writes to the tables go on during the build.
+-- The issue_history indexes are created by V14, which rebuilds that table as a partitioned one.
+
+-- Keyset search (IssueRepository.searchIssues): equality on project (and status when filtered), then
+-- ORDER BY created_at DESC, id DESC, so a page is a bounded index range instead of a sort of the whole project
+CREATE INDEX CONCURRENTLY idx_issue_project_status_created ON issue(project_id, status, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY idx_issue_project_created ON issue(project_id, created_at DESC, id DESC);
+
+-- Export streams a project in id order; also serves the project_id foreign key, replacing the single-column index
+CREATE INDEX CONCURRENTLY idx_issue_project_id_id ON issue(project_id, id);
+DROP INDEX CONCURRENTLY idx_issue_project_id;
+
+-- Top performers (UserDailyClosedRepository.findTopPerformers): day range, optionally one project,
+-- answered from the index alone
+CREATE INDEX CONCURRENTLY idx_user_daily_closed_covering ON user_daily_closed(closed_on, project_id)
+    INCLUDE (user_id, closed_count);
+DROP INDEX CONCURRENTLY idx_user_daily_closed_closed_on;
@@ -0,0 +1,87 @@
+-- Range-partitions issue_history by changed_at month, so old months can be archived (IssueHistoryArchiver)
+-- by dropping a partition instead of deleting rows, and time-bounded queries only visit the months they need.
+
+-- Partition names are issue_history_YYYY_MM; DDL goes through these functions so the app needs no dynamic SQL
+CREATE FUNCTION issue_history_partition_name(month DATE) RETURNS TEXT AS $$
+    SELECT 'issue_history_' || to_char(month, 'YYYY_MM')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION issue_history_create_partition(month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    start_at DATE := date_trunc('month', month);
+    partition_name TEXT := issue_history_partition_name(start_at);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF issue_history FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_at, start_at + INTERVAL '1 month');
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION issue_history_drop_partition(month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := issue_history_partition_name(date_trunc('month', month)::DATE);
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('ALTER TABLE issue_history DETACH PARTITION %I', partition_name);
+    EXECUTE format('DROP TABLE %I', partition_name);
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE issue_history RENAME TO issue_history_unpartitioned;
+ALTER TABLE issue_history_unpartitioned RENAME CONSTRAINT issue_history_pkey TO issue_history_unpartitioned_pkey;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE issue_history (
+    id BIGINT NOT NULL,
+    issue_id BIGINT NOT NULL,
+    old_status VARCHAR(20),
+    new_status VARCHAR(20),
+    old_assignee_name VARCHAR(100),
+    new_assignee_name VARCHAR(100),
+    changed_by_id BIGINT,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, changed_at),
+    FOREIGN KEY (issue_id) REFERENCES issue(id) ON DELETE CASCADE,
+    FOREIGN KEY (changed_by_id) REFERENCES users(id) ON DELETE SET NULL
+) PARTITION BY RANGE (changed_at);
+
+-- Catches rows outside the monthly partitions; IssueHistoryArchiver keeps months ahead created so it stays empty
+CREATE TABLE issue_history_default PARTITION OF issue_history DEFAULT;
+
+-- One partition per month from the oldest row through three months ahead
+SELECT issue_history_create_partition(month::DATE)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT MIN(changed_at) FROM issue_history_unpartitioned), LOCALTIMESTAMP)),
+        date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO issue_history (id, issue_id, old_status, new_status, old_assignee_name, new_assignee_name,
+                           changed_by_id, changed_at)
+SELECT id, issue_id, old_status, new_status, old_assignee_name, new_assignee_name,
+       changed_by_id, COALESCE(changed_at, LOCALTIMESTAMP)
+FROM issue_history_unpartitioned;
+
+DROP TABLE issue_history_unpartitioned;
+
+-- Defined on the parent and created on every partition. The history of one issue is read forwards by the
+-- timeline and backwards by the newest-first history, in (time, id) order
+CREATE INDEX idx_issue_history_issue_changed_id ON issue_history(issue_id, changed_at, id);
+-- Burndown replay (streamSprintStatusChanges) only reads status transitions in a time range;
+-- partial and covering, so assignment rows are skipped and the heap isn't visited
+CREATE INDEX idx_issue_history_transitions ON issue_history(issue_id, changed_at)
+    INCLUDE (old_status, new_status)
+    WHERE old_status IS NOT NULL;
+
+-- Months moved out of the database, with the gzip NDJSON file holding their rows
+CREATE TABLE issue_history_archive (
+    month DATE PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    row_count BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,8 @@
+-- Issue timeline (GET /issues/{id}/timeline) pages through comments and history of one issue in
+-- (time, id) order; with id in the index a page is an index range without a sort of the issue's rows.
+-- The history index is created with the partitioned table in V14. Built CONCURRENTLY outside a transaction
+-- (see the .conf), so comments can be written during the build.
+
+-- Replaces the single-column foreign key index
+CREATE INDEX CONCURRENTLY idx_issue_comment_issue_created ON issue_comment(issue_id, created_at, id);
+DROP INDEX CONCURRENTLY idx_issue_comment_issue_id;
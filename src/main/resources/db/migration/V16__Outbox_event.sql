@@ -0,0 +1,14 @@
+-- Transactional outbox: IssueService, SprintService and ProjectService write a row per change in the mutating
+-- transaction, OutboxRelay publishes the rows in id order and marks them published.
+CREATE TABLE outbox_event (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+-- The relay's queue: stays small however many published rows are kept
+CREATE INDEX idx_outbox_event_unpublished ON outbox_event(id) WHERE published_at IS NULL;
@@ -0,0 +1,4 @@
+-- Optimistic locking for projects and sprints, so If-Match on their updates is checked against the row that
+-- is written. A constant default keeps the ALTER a catalog-only change on PostgreSQL
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE sprints ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- V4 left issue.version nullable, and rows written outside Hibernate could carry a NULL. A NULL version never
+-- matches a version-guarded UPDATE (batch transitions) and breaks Hibernate's increment, so start those rows at 0.
+-- SET NOT NULL scans the table under an exclusive lock; run it in a maintenance window on a large database
+UPDATE issue SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE issue
+    ALTER COLUMN version SET DEFAULT 0,
+    ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,6 @@
+-- Full-text search over issue title (weight A) and description (weight B).
+-- The expression must match FullTextSearchFunctionContributor exactly, otherwise the planner won't use the index.
+CREATE INDEX idx_issue_fulltext ON issue USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B'))
+);
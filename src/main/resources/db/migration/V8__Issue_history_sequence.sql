@@ -0,0 +1,9 @@
+-- IssueHistory ids come from a pooled sequence (allocationSize = 50) instead of IDENTITY,
+-- so Hibernate can JDBC-batch history inserts.
+CREATE SEQUENCE issue_history_seq INCREMENT BY 50;
+
+-- The pooled optimizer hands out (value - 49 .. value), so start a full block above the current max id
+SELECT setval('issue_history_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM issue_history), false);
+
+ALTER TABLE issue_history ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS issue_history_id_seq;
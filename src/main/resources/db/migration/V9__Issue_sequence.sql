@@ -0,0 +1,9 @@
+-- Issue ids come from a pooled sequence (allocationSize = 50) instead of IDENTITY,
+-- so bulk imports can be JDBC-batched.
+CREATE SEQUENCE issue_seq INCREMENT BY 50;
+
+-- The pooled optimizer hands out (value - 49 .. value), so start a full block above the current max id
+SELECT setval('issue_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM issue), false);
+
+ALTER TABLE issue ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS issue_id_seq;
@@ -0,0 +1,124 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Primary and replica are two H2 databases that each know their own name
+class ReplicaRoutingTest {
+
+    private static final Duration LAG_GUARD = Duration.ofMillis(300);
+
+    private final ReplicaRoutingConfig config = new ReplicaRoutingConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate reads;
+    private TransactionTemplate writes;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = config.dataSource(database("primary"), database("replica"), meterRegistry);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(config.readYourWritesListener(LAG_GUARD));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplica_AndWritesPrimary() {
+        assertEquals("replica", reads.execute(status -> node()));
+        assertEquals("primary", writes.execute(status -> node()));
+        assertEquals(1.0, meterRegistry.get("issuetracker.datasource.reads").tag("pool", "replica").counter().count());
+    }
+
+    @Test
+    void readsAfterWrite_ShouldStayOnPrimary_UntilLagGuardPasses() throws Exception {
+        writes.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertEquals("primary", reads.execute(status -> node()));
+
+        Thread.sleep(LAG_GUARD.toMillis() + 100);
+        assertEquals("replica", reads.execute(status -> node()));
+    }
+
+    @Test
+    void filter_ShouldPinClientToPrimary_FromCookieOfEarlierWrite() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(LAG_GUARD);
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/issues/1/start"), writeResponse,
+                (req, res) -> writes.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1")));
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+
+        MockHttpServletRequest sameClient = new MockHttpServletRequest("GET", "/issues/1");
+        sameClient.setCookies(cookie);
+        String[] node = new String[1];
+        filter.doFilter(sameClient, new MockHttpServletResponse(), (req, res) -> node[0] = reads.execute(status -> node()));
+        assertEquals("primary", node[0]);
+
+        MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/issues/1"), otherResponse,
+                (req, res) -> node[0] = reads.execute(status -> node()));
+        assertEquals("replica", node[0]);
+        assertNull(otherResponse.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void filter_ShouldNotPinClientBeyondLagGuard_WhenCookieIsForged() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(LAG_GUARD);
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/issues/1");
+        forged.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE)));
+        String[] nodes = new String[2];
+
+        filter.doFilter(forged, new MockHttpServletResponse(), (req, res) -> {
+            nodes[0] = reads.execute(status -> node());
+            sleep(LAG_GUARD.plusMillis(100));
+            nodes[1] = reads.execute(status -> node());
+        });
+
+        assertEquals("primary", nodes[0]);
+        assertEquals("replica", nodes[1]);
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), writes INT)");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,118 @@
+package com.issuetracker.config;
+
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The "replica" is a second pool on the same in-memory database, so only the routing is under test.
+// Each pool tags its connections with an H2 session variable, so a statement can tell which pool ran it
+@SpringBootTest(properties = {
+        "issuetracker.datasource.replica.url=jdbc:h2:mem:testdb;MODE=PostgreSQL;NON_KEYWORDS=KEY,MONTH",
+        "spring.datasource.hikari.connection-init-sql=SET @POOL = 'primary'",
+        "issuetracker.datasource.replica.hikari.connection-init-sql=SET @POOL = 'replica'"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingWiringTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    void readOnlyServiceMethod_ShouldReadFromReplica_UnlessThreadJustWrote() {
+        double replicaReads = reads("replica");
+        double primaryReads = reads("primary");
+
+        userService.getAllUsers();
+        assertEquals(replicaReads + 1, reads("replica"));
+
+        userService.createUser(User.builder().username("routed").email("routed@example.com").password("secret")
+                .firstName("Routed").lastName("User").active(true).build());
+        assertEquals(1, userService.getAllUsers().size());
+        assertEquals(primaryReads + 1, reads("primary"));
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "replica").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer());
+    }
+
+    @Test
+    void requestThatReadsThenWrites_ShouldWriteOnPrimary() throws Exception {
+        mockMvc.perform(post("/test/read-then-write"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value("replica"))
+                .andExpect(jsonPath("$.write").value("primary"));
+    }
+
+    private double reads(String pool) {
+        return meterRegistry.get("issuetracker.datasource.reads").tag("pool", pool).counter().count();
+    }
+
+    @TestConfiguration
+    static class ReadThenWriteController {
+
+        @Bean
+        Object readThenWriteEndpoint(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+            return new ReadThenWrite(transactionManager, entityManager);
+        }
+    }
+
+    // One request, one persistence context (open-in-view), two transactions
+    @RestController
+    @RequiredArgsConstructor
+    static class ReadThenWrite {
+
+        private final PlatformTransactionManager transactionManager;
+        private final EntityManager entityManager;
+
+        @PostMapping("/test/read-then-write")
+        Map<String, String> readThenWrite() {
+            TransactionTemplate reads = new TransactionTemplate(transactionManager);
+            reads.setReadOnly(true);
+            String read = reads.execute(status -> pool());
+            String write = new TransactionTemplate(transactionManager).execute(status -> pool());
+            return Map.of("read", read, "write", write);
+        }
+
+        private String pool() {
+            return (String) entityManager.createNativeQuery("SELECT @POOL").getSingleResult();
+        }
+    }
+}
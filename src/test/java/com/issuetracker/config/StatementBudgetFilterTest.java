@@ -0,0 +1,78 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StatementBudgetFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private StatementBudgetFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new StatementBudgetFilter(meterRegistry, 5, 3);
+        request = new MockHttpServletRequest("GET", "/api/projects");
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsPerRequest() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), running(
+                "select p from projects p", "select t from teams t where t.id=?"));
+
+        assertEquals(2, statements().total());
+        assertEquals(2.0, meterRegistry.get("issuetracker.sql.statements")
+                .tags("method", "GET", "uri", "/api/projects").summary().totalAmount());
+        assertNull(meterRegistry.find("issuetracker.sql.budget.exceeded").counter());
+        assertNull(meterRegistry.find("issuetracker.sql.repeated.statements").counter());
+    }
+
+    @Test
+    void doFilter_ShouldFlagRequestsOverBudgetAndRepeatedStatements() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), running(
+                "select p from projects p",
+                "select u from users u where u.id=?", "select u from users u where u.id=?",
+                "select u from users u where u.id=?", "select u from users u where u.id=?",
+                "select t from teams t where t.id=?", "select t from teams t where t.id=?"));
+
+        assertEquals(7, statements().total());
+        assertEquals(4, statements().repeated(3).get("select u from users u where u.id=?"));
+        assertEquals(1.0, meterRegistry.get("issuetracker.sql.budget.exceeded")
+                .tags("uri", "/api/projects").counter().count());
+        assertEquals(1.0, meterRegistry.get("issuetracker.sql.repeated.statements")
+                .tags("uri", "/api/projects").counter().count());
+    }
+
+    @Test
+    void doFilter_ShouldStopCountingAfterRequest() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), running("select 1"));
+
+        SqlStatementCounter.record("select 2");
+
+        assertEquals(1, statements().total());
+    }
+
+    private SqlStatementCounter.Statements statements() {
+        return (SqlStatementCounter.Statements) request.getAttribute(StatementBudgetFilter.STATEMENTS_ATTRIBUTE);
+    }
+
+    // Runs the given statements and resolves the handler pattern like the dispatcher would
+    private static FilterChain running(String... statements) {
+        return (req, res) -> {
+            for (String sql : statements) {
+                SqlStatementCounter.record(sql);
+            }
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects");
+        };
+    }
+}
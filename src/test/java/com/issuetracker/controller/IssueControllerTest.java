@@ -4,10 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.issuetracker.model.Issue;
 import com.issuetracker.model.Issue.IssuePriority;
 import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.exception.PreconditionFailedException;
+import com.issuetracker.service.EntityTags;
+import com.issuetracker.service.IssueChangeFeed;
+import com.issuetracker.service.IssueExportService;
+import com.issuetracker.service.IssueHistoryService;
+import com.issuetracker.service.IssueTimelineService;
+import com.issuetracker.service.IssueImportService;
 import com.issuetracker.service.IssueService;
 import com.issuetracker.service.UserService;
+import com.issuetracker.dto.BulkImportLineResult;
 import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.dto.CursorPage;
 import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.dto.TimelineEntryDTO;
 import com.issuetracker.mapper.IssueCommentMapper;
 import com.issuetracker.mapper.IssueMapper;
 import org.junit.jupiter.api.Test;
@@ -16,12 +27,31 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(IssueController.class)
@@ -42,6 +72,21 @@ class IssueControllerTest {
     @MockBean
     private IssueCommentMapper commentMapper;
 
+    @MockBean
+    private IssueImportService importService;
+
+    @MockBean
+    private IssueExportService exportService;
+
+    @MockBean
+    private IssueHistoryService historyService;
+
+    @MockBean
+    private IssueTimelineService timelineService;
+
+    @MockBean
+    private IssueChangeFeed changeFeed;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,10 +114,144 @@ class IssueControllerTest {
 
     @Test
     void startIssue_ShouldReturnOk() throws Exception {
-        when(issueService.startIssue(1L)).thenReturn(new Issue());
+        when(issueService.startIssue(1L, null)).thenReturn(new Issue());
         when(issueMapper.toDTO(any())).thenReturn(new IssueDTO());
 
         mockMvc.perform(put("/issues/1/start"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void startIssue_ShouldPassIfMatchToService() throws Exception {
+        when(issueService.startIssue(1L, "\"abc\"")).thenThrow(new PreconditionFailedException("changed"));
+
+        mockMvc.perform(put("/issues/1/start").header("If-Match", "\"abc\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void getIssue_WhenETagMatches_ShouldReturn304WithoutMapping() throws Exception {
+        Issue issue = new Issue();
+        issue.setId(1L);
+        issue.setVersion(4L);
+        when(issueService.getIssueById(1L)).thenReturn(Optional.of(issue));
+
+        mockMvc.perform(get("/issues/1").header("If-None-Match", EntityTags.of(issue)))
+                .andExpect(status().isNotModified());
+
+        verify(issueMapper, never()).toDTO(any());
+    }
+
+    @Test
+    void getIssue_WhenVersionChanged_ShouldReturnIssue() throws Exception {
+        Issue issue = new Issue();
+        issue.setId(1L);
+        issue.setVersion(4L);
+        String staleETag = EntityTags.of(issue);
+        issue.setVersion(5L);
+        IssueDTO dto = new IssueDTO();
+        dto.setId(1L);
+        when(issueService.getIssueById(1L)).thenReturn(Optional.of(issue));
+        when(issueMapper.toDTO(issue)).thenReturn(dto);
+
+        mockMvc.perform(get("/issues/1").header("If-None-Match", staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EntityTags.of(issue)))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getIssueHistory_ShouldReturnEntries() throws Exception {
+        when(historyService.getHistory(1L)).thenReturn(List.of(new IssueHistoryDTO(7L, 1L,
+                LocalDateTime.of(2024, 3, 1, 10, 0), 2L, "alice", "TODO", "IN_PROGRESS", null, null)));
+
+        mockMvc.perform(get("/issues/1/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].newStatus").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void getIssueTimeline_ShouldReturnPageWithNextCursor() throws Exception {
+        TimelineEntryDTO comment = new TimelineEntryDTO(3L, LocalDateTime.of(2024, 3, 1, 10, 0), 2L, "alice", "On it");
+
+        when(timelineService.getTimeline(1L, "abc", 1)).thenReturn(new CursorPage<>(List.of(comment), "next-token"));
+
+        mockMvc.perform(get("/issues/1/timeline").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].type").value("COMMENT"))
+                .andExpect(jsonPath("$.items[0].authorUsername").value("alice"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void streamIssueChanges_ShouldSubscribeFromLastEventId() throws Exception {
+        when(changeFeed.subscribe(1L, "2024-03-01T10:00")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/projects/1/issues/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "2024-03-01T10:00"))
+                .andExpect(request().asyncStarted());
+
+        verify(changeFeed).subscribe(1L, "2024-03-01T10:00");
+    }
+
+    @Test
+    void searchIssues_ShouldReturnPageWithNextCursor() throws Exception {
+        IssueDTO dto = new IssueDTO();
+        dto.setId(5L);
+
+        when(issueService.searchIssues(eq(1L), any(), any(), any(), eq(1)))
+                .thenReturn(new CursorPage<>(List.of(dto), "next-token"));
+
+        mockMvc.perform(get("/projects/1/issues").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(5))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkImportIssues_ShouldStreamOneResultPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<BulkImportLineResult> results = invocation.getArgument(2);
+            results.accept(BulkImportLineResult.failed(2, Map.of("title", "must not be blank")));
+            results.accept(BulkImportLineResult.created(1, 100L));
+            return null;
+        }).when(importService).importIssues(eq(1L), any(), any());
+
+        mockMvc.perform(post("/projects/1/issues:bulk")
+                .contentType("application/x-ndjson")
+                .content("{\"title\":\"A\",\"type\":\"TASK\",\"priority\":\"LOW\"}\n{\"type\":\"TASK\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"line\":2,\"status\":\"FAILED\",\"issueId\":null,\"errors\":{\"title\":\"must not be blank\"}}\n"
+                                + "{\"line\":1,\"status\":\"CREATED\",\"issueId\":100,\"errors\":null}\n"));
+    }
+
+    @Test
+    void exportIssues_ShouldStreamCsvAttachment() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id,title\n1,A\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportIssues(eq(1L), eq(IssueExportService.Format.CSV), any());
+
+        MvcResult result = mockMvc.perform(get("/projects/1/issues/export").param("format", "csv"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-1-issues.csv\""))
+                .andExpect(content().string("id,title\n1,A\n"));
+    }
+
+    @Test
+    void exportIssues_ShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/projects/1/issues/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
     }
 }
@@ -1,12 +1,18 @@
 package com.issuetracker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.dto.CreateProjectRequest;
 import com.issuetracker.dto.ProjectDTO;
+import com.issuetracker.dto.ProjectSummaryDTO;
+import com.issuetracker.exception.PreconditionFailedException;
+import com.issuetracker.exception.ResourceNotFoundException;
 import com.issuetracker.mapper.ProjectMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Team;
 import com.issuetracker.model.User;
+import com.issuetracker.service.EntityTags;
+import com.issuetracker.service.ProjectIssueCounterService;
 import com.issuetracker.service.ProjectService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +23,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +50,37 @@ class ProjectControllerTest {
     @MockBean
     private ProjectMapper projectMapper;
 
+    @MockBean
+    private ProjectIssueCounterService counterService;
+
+    @Test
+    void getProjectSummary_ShouldReturnCounts() throws Exception {
+        when(counterService.getSummary(1L)).thenReturn(ProjectSummaryDTO.builder()
+                .projectId(1L)
+                .totalIssues(3)
+                .byStatus(Map.of("TODO", 2L, "DONE", 1L))
+                .byPriority(Map.of("HIGH", 3L))
+                .byType(Map.of("BUG", 3L))
+                .byAssignee(List.of(new ProjectSummaryDTO.AssigneeCount(7L, "alice", 2),
+                        new ProjectSummaryDTO.AssigneeCount(null, null, 1)))
+                .build());
+
+        mockMvc.perform(get("/api/projects/1/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalIssues").value(3))
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.byAssignee[0].username").value("alice"))
+                .andExpect(jsonPath("$.byAssignee[1].userId").doesNotExist());
+    }
+
+    @Test
+    void getProjectSummary_WhenProjectMissing_ShouldReturnNotFound() throws Exception {
+        when(counterService.getSummary(99L)).thenThrow(new ResourceNotFoundException("Project", 99L));
+
+        mockMvc.perform(get("/api/projects/99/summary"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getAllProjects_ShouldReturnProjectList() throws Exception {
         Project project = Project.builder()
@@ -51,6 +92,7 @@ class ProjectControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        when(projectService.getCollectionVersion()).thenReturn(new CollectionVersion(1L, project.getUpdatedAt()));
         when(projectService.getAllProjects()).thenReturn(Arrays.asList(project));
         when(projectMapper.toDTO(any(Project.class))).thenReturn(ProjectDTO.builder()
                 .id(1L)
@@ -61,7 +103,21 @@ class ProjectControllerTest {
         mockMvc.perform(get("/api/projects"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].name").value("Test Project"))
-                .andExpect(jsonPath("$[0].key").value("TEST"));
+                .andExpect(jsonPath("$[0].key").value("TEST"))
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void getAllProjects_WhenETagMatches_ShouldReturn304WithoutReadingProjects() throws Exception {
+        CollectionVersion version = new CollectionVersion(3L, LocalDateTime.of(2024, 5, 1, 12, 0));
+        when(projectService.getCollectionVersion()).thenReturn(version);
+
+        mockMvc.perform(get("/api/projects").header("If-None-Match", EntityTags.of("projects", version)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", EntityTags.of("projects", version)))
+                .andExpect(content().string(""));
+
+        verify(projectService, never()).getAllProjects();
     }
 
     @Test
@@ -96,6 +152,40 @@ class ProjectControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getProjectById_WhenETagMatches_ShouldReturn304WithoutMapping() throws Exception {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Test Project")
+                .key("TEST")
+                .updatedAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+        when(projectService.getProjectById(1L)).thenReturn(Optional.of(project));
+
+        mockMvc.perform(get("/api/projects/1").header("If-None-Match", "W/" + EntityTags.of(project)))
+                .andExpect(status().isNotModified());
+
+        verify(projectMapper, never()).toDTO(any(Project.class));
+    }
+
+    @Test
+    void getProjectById_WhenProjectChanged_ShouldReturnNewETag() throws Exception {
+        Project project = Project.builder()
+                .id(1L)
+                .name("Test Project")
+                .key("TEST")
+                .updatedAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+        String staleETag = EntityTags.of(project);
+        project.setUpdatedAt(LocalDateTime.of(2024, 5, 2, 9, 30));
+        when(projectService.getProjectById(1L)).thenReturn(Optional.of(project));
+        when(projectMapper.toDTO(any(Project.class))).thenReturn(ProjectDTO.builder().id(1L).build());
+
+        mockMvc.perform(get("/api/projects/1").header("If-None-Match", staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", EntityTags.of(project)));
+    }
+
     @Test
     void getProjectByKey_WhenExists_ShouldReturnProject() throws Exception {
         Project project = Project.builder()
@@ -172,12 +262,6 @@ class ProjectControllerTest {
                 .description("Updated description")
                 .build();
 
-        Project existingProject = Project.builder()
-                .id(1L)
-                .name("Test Project")
-                .key("TEST")
-                .build();
-
         Project updatedProject = Project.builder()
                 .id(1L)
                 .name("Updated Project")
@@ -187,8 +271,7 @@ class ProjectControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(projectService.getProjectById(1L)).thenReturn(Optional.of(existingProject));
-        when(projectService.updateProject(any(Project.class))).thenReturn(updatedProject);
+        when(projectService.updateProject(any(Project.class), isNull())).thenReturn(updatedProject);
         when(projectMapper.toDTO(any(Project.class))).thenReturn(ProjectDTO.builder()
                 .id(1L)
                 .name("Updated Project")
@@ -199,7 +282,24 @@ class ProjectControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.name").value("Updated Project"));
+                .andExpect(jsonPath("$.name").value("Updated Project"))
+                .andExpect(header().string("ETag", EntityTags.of(updatedProject)));
+    }
+
+    @Test
+    void updateProject_WhenIfMatchIsStale_ShouldReturn412() throws Exception {
+        CreateProjectRequest request = CreateProjectRequest.builder()
+                .name("Updated Project")
+                .key("UPD")
+                .build();
+        when(projectService.updateProject(any(Project.class), eq("\"stale\"")))
+                .thenThrow(new PreconditionFailedException("Resource has changed since \"stale\""));
+
+        mockMvc.perform(put("/api/projects/1")
+                        .header("If-Match", "\"stale\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
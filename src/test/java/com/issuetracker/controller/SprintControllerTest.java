@@ -1,9 +1,11 @@
 package com.issuetracker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.dto.CreateSprintRequest;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Sprint;
+import com.issuetracker.service.SprintAnalyticsService;
 import com.issuetracker.service.SprintService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +38,9 @@ class SprintControllerTest {
     @MockBean
     private SprintService sprintService;
 
+    @MockBean
+    private SprintAnalyticsService analyticsService;
+
     private Project testProject;
     private Sprint testSprint;
 
@@ -57,6 +63,7 @@ class SprintControllerTest {
 
     @Test
     void getAllSprints_ShouldReturnSprintList() throws Exception {
+        when(sprintService.getCollectionVersion()).thenReturn(new CollectionVersion(0L, null));
         when(sprintService.getAllSprints()).thenReturn(Arrays.asList(testSprint));
 
         mockMvc.perform(get("/api/sprints"))
@@ -132,8 +139,7 @@ class SprintControllerTest {
                 .project(testProject)
                 .build();
 
-        when(sprintService.getSprintById(1L)).thenReturn(Optional.of(testSprint));
-        when(sprintService.updateSprint(any(Sprint.class))).thenReturn(updatedSprint);
+        when(sprintService.updateSprint(any(Sprint.class), isNull())).thenReturn(updatedSprint);
 
         mockMvc.perform(put("/api/sprints/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -154,6 +160,7 @@ class SprintControllerTest {
 
     @Test
     void getSprintsByProject_ShouldReturnSprints() throws Exception {
+        when(sprintService.getCollectionVersionByProject(1L)).thenReturn(new CollectionVersion(0L, null));
         when(sprintService.getSprintsByProject(1L)).thenReturn(Arrays.asList(testSprint));
 
         mockMvc.perform(get("/api/sprints/project/1"))
@@ -172,6 +179,7 @@ class SprintControllerTest {
 
     @Test
     void getSprintsByProject_WhenEmpty_ShouldReturnEmptyList() throws Exception {
+        when(sprintService.getCollectionVersionByProject(1L)).thenReturn(new CollectionVersion(0L, null));
         when(sprintService.getSprintsByProject(1L)).thenReturn(Arrays.asList());
 
         mockMvc.perform(get("/api/sprints/project/1"))
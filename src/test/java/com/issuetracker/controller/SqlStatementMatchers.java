@@ -0,0 +1,44 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.config.SqlStatementCounter.Statements;
+import com.issuetracker.config.StatementBudgetFilter;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers on the SQL statements a request ran, as counted by {@link StatementBudgetFilter}.
+ * Need a full context ({@code @SpringBootTest} with {@code @AutoConfigureMockMvc}) with real repositories.
+ */
+final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    static ResultMatcher statementCount(int expected) {
+        return result -> assertEquals(expected, statements(result).total(), "SQL statements");
+    }
+
+    static ResultMatcher maxStatementCount(int max) {
+        return result -> assertTrue(statements(result).total() <= max,
+                "Expected at most " + max + " SQL statements but ran " + statements(result).total());
+    }
+
+    static ResultMatcher noRepeatedStatements(int threshold) {
+        return result -> {
+            Map<String, Integer> repeated = statements(result).repeated(threshold);
+            assertTrue(repeated.isEmpty(), "Statements repeated " + threshold + "+ times: " + repeated);
+        };
+    }
+
+    private static Statements statements(MvcResult result) {
+        Statements statements = (Statements) result.getRequest().getAttribute(StatementBudgetFilter.STATEMENTS_ATTRIBUTE);
+        assertNotNull(statements, "No SQL statement counts on the request; is StatementBudgetFilter registered?");
+        return statements;
+    }
+}
@@ -0,0 +1,85 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Team;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.TeamRepository;
+import com.issuetracker.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.issuetracker.controller.SqlStatementMatchers.noRepeatedStatements;
+import static com.issuetracker.controller.SqlStatementMatchers.statementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Pins the SQL statement counts of read endpoints; the second-level cache is emptied so every load hits the database
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Project> projects = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 6; i++) {
+            Team team = teamRepository.save(Team.builder().name("Team " + i).build());
+            User lead = userRepository.save(User.builder()
+                    .username("lead" + i).email("lead" + i + "@example.com").password("secret")
+                    .firstName("Lead").lastName(String.valueOf(i)).active(true).build());
+            projects.add(projectRepository.save(Project.builder()
+                    .name("Project " + i).key("SC" + i).team(team).lead(lead).build()));
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        teamRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getProject_ShouldLoadProjectTeamAndLead() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}", projects.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void getAllProjects_ShouldNotLoadTeamsAndLeadsPerProject() throws Exception {
+        // The list and its count/max ETag query
+        mockMvc.perform(get("/api/projects"))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(2))
+                .andExpect(noRepeatedStatements(2));
+    }
+}
@@ -2,6 +2,7 @@ package com.issuetracker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.issuetracker.dto.AddTeamMemberRequest;
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.dto.CreateTeamRequest;
 import com.issuetracker.dto.TeamDTO;
 import com.issuetracker.dto.TeamMemberDTO;
@@ -92,6 +93,7 @@ class TeamControllerTest {
 
     @Test
     void getAllTeams_ShouldReturnTeamList() throws Exception {
+        when(teamService.getCollectionVersion()).thenReturn(new CollectionVersion(0L, null));
         when(teamService.getAllTeams()).thenReturn(Arrays.asList(testTeam));
         when(teamMapper.toDTO(any(Team.class))).thenReturn(testTeamDTO);
 
@@ -103,6 +105,7 @@ class TeamControllerTest {
 
     @Test
     void getAllTeams_WhenNoTeams_ShouldReturnEmptyList() throws Exception {
+        when(teamService.getCollectionVersion()).thenReturn(new CollectionVersion(0L, null));
         when(teamService.getAllTeams()).thenReturn(Arrays.asList());
 
         mockMvc.perform(get("/api/teams"))
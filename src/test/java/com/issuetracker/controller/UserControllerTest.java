@@ -1,6 +1,7 @@
 package com.issuetracker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.CollectionVersion;
 import com.issuetracker.dto.CreateUserRequest;
 import com.issuetracker.mapper.RoleMapper;
 import com.issuetracker.mapper.UserMapper;
@@ -92,6 +93,7 @@ class UserControllerTest {
 
     @Test
     void getAllUsers_ShouldReturnUserList() throws Exception {
+        when(userService.getCollectionVersion()).thenReturn(new CollectionVersion(0L, null));
         when(userService.getAllUsers()).thenReturn(Arrays.asList(testUser));
         when(userMapper.toDTO(any(User.class))).thenReturn(testUserDTO);
 
@@ -103,6 +105,7 @@ class UserControllerTest {
 
     @Test
     void getAllUsers_WhenNoUsers_ShouldReturnEmptyList() throws Exception {
+        when(userService.getCollectionVersion()).thenReturn(new CollectionVersion(0L, null));
         when(userService.getAllUsers()).thenReturn(Arrays.asList());
 
         mockMvc.perform(get("/api/users"))
@@ -0,0 +1,139 @@
+package com.issuetracker.outbox;
+
+import com.issuetracker.model.OutboxEvent;
+import com.issuetracker.model.Project;
+import com.issuetracker.repository.OutboxEventRepository;
+import com.issuetracker.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        relay.relay();
+        sink.clear();
+    }
+
+    @Test
+    void relay_ShouldPublishCommittedChanges_InCommitOrder() {
+        Project project = new Project();
+        project.setName("Outbox");
+        project.setKey("OBX");
+        Project created = projectService.createProject(project);
+        created.setDescription("Relayed");
+        projectService.updateProject(created, null);
+
+        assertEquals(2, relay.relay());
+
+        List<OutboxEvent> events = sink.getEvents();
+        assertEquals(List.of("created", "updated"), events.stream().map(OutboxEvent::getEventType).toList());
+        assertTrue(events.stream().allMatch(e -> OutboxWriter.PROJECT.equals(e.getAggregateType())
+                && created.getId().equals(e.getAggregateId())));
+        assertTrue(events.get(1).getPayload().contains("\"description\":\"Relayed\""));
+        assertEquals(0, outboxRepository.countByPublishedAtIsNull());
+        assertEquals(0, relay.relay());
+    }
+
+    @Test
+    void append_ShouldWaitForCommittingTransactionOfSameAggregate_SoIdsFollowCommitOrder() throws Exception {
+        Project project = new Project();
+        project.setName("Serialized");
+        project.setKey("SER");
+        Long projectId = projectService.createProject(project).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Registered after the outbox's own synchronization, so it pauses the commit once "first" is written
+            Future<?> first = executor.submit(() -> tx.executeWithoutResult(status -> {
+                outboxWriter.append(OutboxWriter.PROJECT, projectId, "first", Map.of());
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        firstWritten.countDown();
+                        awaitQuietly(commitFirst);
+                    }
+                });
+            }));
+            assertTrue(firstWritten.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> tx.executeWithoutResult(status ->
+                    outboxWriter.append(OutboxWriter.PROJECT, projectId, "second", Map.of())));
+
+            Thread.sleep(300);
+            assertFalse(second.isDone());
+
+            commitFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        relay.relay();
+        assertEquals(List.of("created", "first", "second"), sink.getEvents().stream()
+                .filter(e -> projectId.equals(e.getAggregateId()))
+                .map(OutboxEvent::getEventType)
+                .toList());
+    }
+
+    @Test
+    void append_ShouldWriteNothing_WhenTransactionRollsBack() {
+        long before = outboxRepository.countByPublishedAtIsNull();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxWriter.append(OutboxWriter.PROJECT, 1L, "rolled-back", Map.of());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, outboxRepository.countByPublishedAtIsNull());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.issuetracker.outbox;
+
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.OutboxEvent;
+import com.issuetracker.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, sink, transactionManager, meterRegistry, true, 2, Duration.ofDays(7));
+    }
+
+    @Test
+    void relay_ShouldPublishAndMarkBatches_UntilOutboxIsDrained() throws Exception {
+        List<OutboxEvent> first = events(1, 2);
+        List<OutboxEvent> second = events(3);
+        when(outboxRepository.findUnpublished(Limit.of(2))).thenReturn(first).thenReturn(second);
+
+        int published = relay.relay();
+
+        assertEquals(3, published);
+        InOrder inOrder = inOrder(sink);
+        inOrder.verify(sink).publish(first);
+        inOrder.verify(sink).publish(second);
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("issuetracker.outbox.published").count());
+    }
+
+    @Test
+    void relay_ShouldLeaveBatchUnpublished_WhenSinkFails() throws Exception {
+        when(outboxRepository.findUnpublished(Limit.of(2))).thenReturn(events(1, 2));
+        doThrow(new IOException("disk full")).when(sink).publish(any());
+
+        assertThrows(IllegalStateException.class, () -> relay.relay());
+
+        verify(outboxRepository, never()).markPublished(any(), any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.counter("issuetracker.outbox.failures").count());
+    }
+
+    @Test
+    void relay_ShouldDoNothing_WhenOutboxIsEmpty() throws Exception {
+        when(outboxRepository.findUnpublished(Limit.of(2))).thenReturn(List.of());
+
+        assertEquals(0, relay.relay());
+
+        verifyNoInteractions(sink);
+        verify(outboxRepository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    void eventType_ShouldMatchChangeFeedNames() {
+        assertEquals("status-changed", OutboxWriter.eventType(IssueChangedEvent.Type.STATUS_CHANGED));
+    }
+
+    private List<OutboxEvent> events(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> OutboxEvent.builder().id(id).aggregateType(OutboxWriter.ISSUE).aggregateId(1L)
+                        .eventType("created").payload("{}").build())
+                .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.CollectionVersion;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Role;
+import com.issuetracker.model.Team;
+import com.issuetracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class CollectionVersionQueryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Team team;
+    private User lead;
+
+    @BeforeEach
+    void setUp() {
+        team = entityManager.persist(Team.builder().name("Core").build());
+        lead = entityManager.persist(User.builder().username("alice").email("alice@example.com").password("x").build());
+        entityManager.persist(Project.builder().name("Web").key("WEB").team(team).lead(lead).build());
+        entityManager.persist(Project.builder().name("Api").key("API").build());
+        entityManager.flush();
+    }
+
+    @Test
+    void projectVersion_ShouldCountReferencesAndFollowTeamRename() {
+        CollectionVersion before = projectRepository.findCollectionVersion();
+        assertEquals(4L, before.count());
+
+        team.setName("Platform");
+        entityManager.flush();
+
+        CollectionVersion after = projectRepository.findCollectionVersion();
+        assertEquals(4L, after.count());
+        assertEquals(team.getUpdatedAt(), after.lastModified());
+    }
+
+    @Test
+    void userVersion_ShouldCountRoleAssignments() {
+        Role role = entityManager.persist(Role.builder().name("DEVELOPER").build());
+        entityManager.persist(User.builder().username("bob").email("bob@example.com").password("x").build());
+        assertEquals(2L, userRepository.findCollectionVersion().count());
+
+        lead.addRole(role);
+        entityManager.flush();
+
+        assertEquals(3L, userRepository.findCollectionVersion().count());
+    }
+}
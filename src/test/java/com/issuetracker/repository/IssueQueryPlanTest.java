@@ -0,0 +1,450 @@
+package com.issuetracker.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.model.Issue.IssueStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs the migrations against a real PostgreSQL, seeds a realistic volume and checks with EXPLAIN that the
+ * hot queries use the indexes from V13 and V15 rather than scanning the big tables. H2 plans say nothing about
+ * production, so this only runs when a database is supplied, e.g.
+ * {@code ISSUETRACKER_PLAN_TEST_DB_URL=jdbc:postgresql://localhost:5432/issuetracker mvn test -Dtest=IssueQueryPlanTest}.
+ * Everything is created in its own schema, which is dropped afterwards.
+ * <p>
+ * Each test calls the repository method itself; the SQL Hibernate sends and the values it binds are captured at
+ * the JDBC level and explained as a prepared statement twice: with a custom plan for those values, which must use
+ * the expected index, and with the generic plan PostgreSQL switches to after five executions of a prepared
+ * statement, which must still not scan a big table.
+ */
+@DataJpaTest(properties = "spring.flyway.schemas=" + IssueQueryPlanTest.SCHEMA)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "ISSUETRACKER_PLAN_TEST_DB_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IssueQueryPlanTest {
+
+    static final String SCHEMA = "issue_query_plan_test";
+
+    private static final String URL = System.getenv("ISSUETRACKER_PLAN_TEST_DB_URL");
+    private static final String USER = System.getenv().getOrDefault("ISSUETRACKER_PLAN_TEST_DB_USER", "postgres");
+    private static final String PASSWORD =
+            System.getenv().getOrDefault("ISSUETRACKER_PLAN_TEST_DB_PASSWORD", "postgres");
+
+    // Planner cost of a random page read: 1.1 as set for SSD storage in production (see README, "Query plans").
+    // With the default of 4 the planner prefers scanning the small seeded history partitions
+    private static final String RANDOM_PAGE_COST =
+            System.getenv().getOrDefault("ISSUETRACKER_PLAN_TEST_RANDOM_PAGE_COST", "1.1");
+
+    // Large tables that must never be read in full by the queries below
+    private static final Set<String> WATCHED_TABLES = Set.of("issue", "issue_history", "issue_comment", "user_daily_closed");
+
+    // Statements run through the app's DataSource while a test captures them
+    private static final List<CapturedStatement> CAPTURED = new ArrayList<>();
+    private static volatile boolean capturing;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Partition (table or index) name to the name of its partitioned parent
+    private final Map<String, String> parents = new HashMap<>();
+
+    // Empty partitions (e.g. the months ahead) are scanned sequentially at no cost, so they are not watched
+    private final Set<String> emptyTables = new HashSet<>();
+
+    private Connection connection;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueHistoryRepository historyRepository;
+
+    @Autowired
+    private IssueCommentRepository commentRepository;
+
+    @Autowired
+    private UserDailyClosedRepository dailyClosedRepository;
+
+    // The app's own Flyway migrates the schema when the context starts, so a leftover one is dropped first
+    @DynamicPropertySource
+    static void planTestDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection admin = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement statement = admin.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        registry.add("spring.datasource.url", () -> URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> USER);
+        registry.add("spring.datasource.password", () -> PASSWORD);
+    }
+
+    @BeforeAll
+    void seed() throws SQLException {
+        connection = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute("SET random_page_cost = " + RANDOM_PAGE_COST);
+            statement.execute("SELECT setseed(0.42)");
+            // 200 users, 20 projects with 20 two-week sprints each, 100k issues (40% in a sprint, ~100 per sprint),
+            // 3 history rows per issue and a year of daily closed counts
+            statement.execute("INSERT INTO users (id, username, email, password) " +
+                    "SELECT 100000 + g, 'plan_user_' || g, 'plan_user_' || g || '@example.com', 'x' " +
+                    "FROM generate_series(1, 200) g");
+            statement.execute("INSERT INTO projects (id, name, key) " +
+                    "SELECT 100000 + g, 'Plan project ' || g, 'PLAN' || g FROM generate_series(1, 20) g");
+            statement.execute("INSERT INTO sprints (id, name, start_date, end_date, project_id) " +
+                    "SELECT 100000 + g, 'Sprint ' || g, DATE '2025-01-06' + ((g - 1) / 20) * 14, " +
+                    "DATE '2025-01-19' + ((g - 1) / 20) * 14, 100001 + (g - 1) % 20 " +
+                    "FROM generate_series(1, 400) g");
+            statement.execute("INSERT INTO issue (id, title, description, type, status, priority, created_at, " +
+                    "version, project_id, sprint_id, assignee_id, reporter_id) " +
+                    "SELECT 1000000 + g, 'Issue ' || g, 'Seeded issue ' || g, " +
+                    "(ARRAY['TASK','BUG','STORY'])[1 + floor(random() * 3)::int], " +
+                    "(ARRAY['TODO','TODO','TODO','IN_PROGRESS','IN_PROGRESS','DONE','DONE','DONE','DONE','DONE'])" +
+                    "[1 + floor(random() * 10)::int], " +
+                    "(ARRAY['LOW','MEDIUM','HIGH'])[1 + floor(random() * 3)::int], " +
+                    "TIMESTAMP '2024-01-01' + random() * INTERVAL '730 days', 0, 100001 + g % 20, " +
+                    "CASE WHEN random() < 0.4 THEN 100001 + g % 20 + 20 * ((g / 20) % 20) END, " +
+                    "100001 + floor(random() * 200)::int, 100001 + floor(random() * 200)::int " +
+                    "FROM generate_series(1, 100000) g");
+            // issue_history is partitioned by month (V14): the seeded months need their partitions
+            statement.execute("SELECT issue_history_create_partition(m::date) " +
+                    "FROM generate_series(DATE '2024-01-01', DATE '2026-02-01', INTERVAL '1 month') m");
+            statement.execute("INSERT INTO issue_history (id, issue_id, old_status, new_status, " +
+                    "old_assignee_name, new_assignee_name, changed_at) " +
+                    "SELECT 1000000 + (i.id - 1000000) * 3 + s, i.id, " +
+                    "CASE s WHEN 1 THEN 'TODO' WHEN 2 THEN 'IN_PROGRESS' END, " +
+                    "CASE s WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'DONE' END, " +
+                    "CASE s WHEN 0 THEN 'Unassigned' END, CASE s WHEN 0 THEN 'plan_user_1' END, " +
+                    "i.created_at + s * INTERVAL '2 days' " +
+                    "FROM issue i CROSS JOIN generate_series(0, 2) s WHERE i.id > 1000000");
+            statement.execute("INSERT INTO issue_comment (content, created_at, issue_id, author_id) " +
+                    "SELECT 'Comment ' || s, i.created_at + s * INTERVAL '1 day', i.id, 100001 + (i.id + s) % 200 " +
+                    "FROM issue i CROSS JOIN generate_series(1, 2) s WHERE i.id > 1000000");
+            statement.execute("INSERT INTO user_daily_closed (user_id, project_id, closed_on, closed_count) " +
+                    "SELECT 100000 + u, 100001 + (u + 7 * k) % 20, DATE '2025-01-01' + d, 1 + (u + d) % 3 " +
+                    "FROM generate_series(1, 200) u, generate_series(1, 2) k, generate_series(0, 364) d");
+            // Fresh statistics and visibility map, as autovacuum would leave them
+            statement.execute("VACUUM ANALYZE");
+        }
+        // Partitions and their indexes show up in plans under their own names
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT c.relname, p.relname FROM pg_inherits h " +
+                     "JOIN pg_class c ON c.oid = h.inhrelid JOIN pg_class p ON p.oid = h.inhparent " +
+                     "JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = '" + SCHEMA + "'")) {
+            while (rs.next()) {
+                parents.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT c.relname FROM pg_class c " +
+                     "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                     "WHERE n.nspname = '" + SCHEMA + "' AND c.relkind = 'r' AND c.reltuples = 0")) {
+            while (rs.next()) {
+                emptyTables.add(rs.getString(1));
+            }
+        }
+    }
+
+    @AfterAll
+    void dropSchema() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    @BeforeEach
+    void clearCaptured() {
+        synchronized (CAPTURED) {
+            CAPTURED.clear();
+        }
+    }
+
+    @Test
+    void searchIssues_WithStatus_ShouldReadOnePageFromTheIndex() throws Exception {
+        assertPlansUse("idx_issue_project_status_created", capture(() ->
+                issueRepository.searchIssues(100003L, IssueStatus.IN_PROGRESS, "", null, null, Limit.of(21))));
+    }
+
+    @Test
+    void searchIssues_NextPageWithoutStatus_ShouldReadOnePageFromTheIndex() throws Exception {
+        assertPlansUse("idx_issue_project_created", capture(() ->
+                issueRepository.searchIssues(100003L, null, "", LocalDateTime.of(2025, 6, 1, 12, 0), 1050000L,
+                        Limit.of(21))));
+    }
+
+    @Test
+    void issueHistory_ShouldUseIssueAndTimeIndex() throws Exception {
+        assertPlansUse("idx_issue_history_issue_changed_id", capture(() ->
+                historyRepository.findByIssueIdOrderByChangedAtDesc(1012345L)));
+    }
+
+    @Test
+    void timelineHistoryPage_ShouldSeekInIssueAndTimeIndex() throws Exception {
+        assertPlansUse("idx_issue_history_issue_changed_id", capture(() ->
+                historyRepository.findTimelinePage(1012345L, LocalDateTime.of(2025, 1, 1, 0, 0), 1037035L,
+                        Limit.of(51))));
+    }
+
+    @Test
+    void timelineCommentPage_ShouldSeekInIssueAndTimeIndex() throws Exception {
+        assertPlansUse("idx_issue_comment_issue_created", capture(() ->
+                commentRepository.findTimelinePage(1012345L, LocalDateTime.of(2025, 1, 1, 0, 0), 24000L,
+                        Limit.of(51))));
+    }
+
+    @Test
+    void sprintStatusChanges_ShouldUsePartialTransitionIndex() throws Exception {
+        assertPlansUse("idx_issue_history_transitions", capture(() -> {
+            try (Stream<?> changes = historyRepository.streamSprintStatusChanges(100103L, null,
+                    LocalDateTime.of(2026, 1, 1, 0, 0))) {
+                changes.forEach(change -> { });
+            }
+        }));
+    }
+
+    @Test
+    void topPerformers_ForProject_ShouldUseCoveringIndex() throws Exception {
+        assertPlansUse("idx_user_daily_closed_covering", capture(() ->
+                dailyClosedRepository.findTopPerformers(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30),
+                        100003L, Limit.of(5))));
+    }
+
+    // The one statement the call sent to the database
+    private CapturedStatement capture(Runnable repositoryCall) {
+        capturing = true;
+        try {
+            repositoryCall.run();
+        } finally {
+            capturing = false;
+        }
+        synchronized (CAPTURED) {
+            assertEquals(1, CAPTURED.size(), () -> "Expected one statement, got " + CAPTURED);
+            return CAPTURED.get(0);
+        }
+    }
+
+    private void assertPlansUse(String indexName, CapturedStatement statement) throws Exception {
+        JsonNode customPlan = explain(statement, "force_custom_plan");
+        assertNoBigTableScan(customPlan);
+        assertTrue(nodes(customPlan).stream().map(node -> node.path("Index Name").asText())
+                        .anyMatch(index -> indexName.equals(parents.getOrDefault(index, index))),
+                () -> "Expected " + indexName + " in plan:\n" + customPlan.toPrettyString());
+
+        assertNoBigTableScan(explain(statement, "force_generic_plan"));
+    }
+
+    // PREPAREs the captured SQL with its bind markers numbered and the bound values' types, then EXPLAINs its
+    // execution with the bound values as literals
+    private JsonNode explain(CapturedStatement captured, String planCacheMode) throws Exception {
+        StringBuilder sql = new StringBuilder();
+        int marker = 0;
+        for (char c : captured.sql().toCharArray()) {
+            if (c == '?') {
+                sql.append('$').append(++marker);
+            } else {
+                sql.append(c);
+            }
+        }
+        assertEquals(marker, captured.parameters().size(), () -> "Unbound markers in " + captured);
+        String types = captured.parameters().values().stream().map(BoundValue::sqlType)
+                .collect(Collectors.joining(", "));
+        String values = captured.parameters().values().stream().map(BoundValue::literal)
+                .collect(Collectors.joining(", "));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = " + planCacheMode);
+            statement.execute("PREPARE plan_check (" + types + ") AS " + sql);
+            try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE plan_check (" + values + ")")) {
+                rs.next();
+                return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            } finally {
+                statement.execute("DEALLOCATE plan_check");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+    }
+
+    private void assertNoBigTableScan(JsonNode plan) {
+        for (JsonNode node : nodes(plan)) {
+            String relation = node.path("Relation Name").asText();
+            if ("Seq Scan".equals(node.path("Node Type").asText())
+                    && WATCHED_TABLES.contains(parents.getOrDefault(relation, relation))
+                    && !emptyTables.contains(relation)) {
+                fail("Sequential scan on " + relation + ":\n" + plan.toPrettyString());
+            }
+        }
+    }
+
+    private static List<JsonNode> nodes(JsonNode plan) {
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan, nodes);
+        return nodes;
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+
+    private record CapturedStatement(String sql, TreeMap<Integer, BoundValue> parameters) {
+    }
+
+    // A value bound with a PreparedStatement setter, or a typed null
+    private record BoundValue(Object value, int nullType) {
+
+        String sqlType() {
+            if (value == null) {
+                return switch (nullType) {
+                    case Types.BIGINT -> "bigint";
+                    case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> "integer";
+                    case Types.TIMESTAMP -> "timestamp";
+                    case Types.DATE -> "date";
+                    case Types.BOOLEAN, Types.BIT -> "boolean";
+                    default -> "varchar";
+                };
+            }
+            if (value instanceof Long) {
+                return "bigint";
+            }
+            if (value instanceof Integer || value instanceof Short) {
+                return "integer";
+            }
+            if (value instanceof java.sql.Timestamp || value instanceof LocalDateTime) {
+                return "timestamp";
+            }
+            if (value instanceof java.sql.Date || value instanceof LocalDate) {
+                return "date";
+            }
+            if (value instanceof Boolean) {
+                return "boolean";
+            }
+            return "varchar";
+        }
+
+        String literal() {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    /**
+     * Wraps the app's DataSource so that, while a test captures, every executed prepared statement is
+     * recorded with the values bound to it.
+     */
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource,
+                            (target, method, args) -> {
+                                Object result = invoke(target, method, args);
+                                return result instanceof Connection connection ? capturing(connection) : result;
+                            }) : bean;
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return capturing(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            TreeMap<Integer, BoundValue> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.equals("setNull")) {
+                    parameters.put((Integer) args[0], new BoundValue(null, (Integer) args[1]));
+                } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameters.put((Integer) args[0], new BoundValue(args[1], Types.OTHER));
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if ((name.equals("executeQuery") || name.equals("execute")) && capturing) {
+                    synchronized (CAPTURED) {
+                        CAPTURED.add(new CapturedStatement(sql, new TreeMap<>(parameters)));
+                    }
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private interface Handler<T> {
+            Object handle(T target, Method method, Object[] args) throws Throwable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
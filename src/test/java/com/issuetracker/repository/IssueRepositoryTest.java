@@ -0,0 +1,132 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Issue.IssueType;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class IssueRepositoryTest {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = entityManager.persist(Project.builder().name("Search").key("SRCH").build());
+        User reporter = entityManager.persist(User.builder()
+                .username("reporter").email("reporter@example.com").password("secret").build());
+        User assignee = entityManager.persist(User.builder()
+                .username("assignee").email("assignee@example.com").password("secret").build());
+        LocalDateTime now = LocalDateTime.now();
+        persistIssue("Login page crashes", "Stack trace attached", IssueStatus.TODO, now.minusMinutes(3), reporter, assignee);
+        persistIssue("Update docs", "Mention the login flow", IssueStatus.DONE, now.minusMinutes(2), reporter, null);
+        persistIssue("Refactor billing", "No relation", IssueStatus.TODO, now.minusMinutes(1), reporter, assignee);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchIssues_ShouldMatchTitleOrDescription() {
+        List<IssueDTO> result = issueRepository.searchIssues(project.getId(), null, "LOGIN", null, null, Limit.of(10));
+
+        assertEquals(List.of("Update docs", "Login page crashes"), titles(result));
+    }
+
+    @Test
+    void searchIssues_ShouldSeekPastCursor() {
+        List<IssueDTO> firstPage = issueRepository.searchIssues(project.getId(), null, "", null, null, Limit.of(2));
+        IssueDTO last = firstPage.get(1);
+
+        List<IssueDTO> secondPage = issueRepository.searchIssues(project.getId(), null, "",
+                last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        assertEquals(List.of("Refactor billing", "Update docs"), titles(firstPage));
+        assertEquals(List.of("Login page crashes"), titles(secondPage));
+    }
+
+    @Test
+    void searchIssues_ShouldProjectAssociationsInOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<IssueDTO> result = issueRepository.searchIssues(project.getId(), null, "", null, null, Limit.of(10));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        IssueDTO first = result.get(0);
+        assertEquals("Search", first.getProjectName());
+        assertEquals("assignee", first.getAssigneeName());
+        assertEquals("reporter", first.getReporterName());
+    }
+
+    @Test
+    void searchIssuesRanked_ShouldRankTitleMatchesFirst() {
+        List<IssueDTO> result = issueRepository.searchIssuesRanked(project.getId(), null, "login", Limit.of(10));
+
+        assertEquals(List.of("Login page crashes", "Update docs"), titles(result));
+    }
+
+    @Test
+    void searchIssuesRanked_ShouldFilterByStatus() {
+        List<IssueDTO> result = issueRepository.searchIssuesRanked(project.getId(), IssueStatus.DONE, "login", Limit.of(10));
+
+        assertEquals(List.of("Update docs"), titles(result));
+    }
+
+    @Test
+    void streamByProjectId_ShouldStreamInIdOrder() {
+        try (Stream<IssueDTO> issues = issueRepository.streamByProjectId(project.getId())) {
+            assertEquals(List.of("Login page crashes", "Update docs", "Refactor billing"), titles(issues.toList()));
+        }
+    }
+
+    private List<String> titles(List<IssueDTO> issues) {
+        return issues.stream().map(IssueDTO::getTitle).toList();
+    }
+
+    private void persistIssue(String title, String description, IssueStatus status, LocalDateTime createdAt,
+                              User reporter, User assignee) {
+        Issue issue = new Issue();
+        issue.setTitle(title);
+        issue.setDescription(description);
+        issue.setType(IssueType.TASK);
+        issue.setPriority(IssuePriority.MEDIUM);
+        issue.setStatus(status);
+        issue.setCreatedAt(createdAt);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        issue.setAssignee(assignee);
+        entityManager.persist(issue);
+    }
+}
@@ -0,0 +1,67 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.ProjectIssueCounter;
+import com.issuetracker.model.ProjectIssueCounter.Dimension;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ProjectIssueCounterRepositoryTest {
+
+    @Autowired
+    private ProjectIssueCounterRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void adjust_ShouldCreateBucketOnFirstUse_AndAddOnLaterCalls() {
+        repository.adjust(1L, Dimension.STATUS, "TODO", 2);
+        repository.adjust(1L, Dimension.STATUS, "TODO", 3);
+        repository.adjust(1L, Dimension.STATUS, "DONE", 1);
+        repository.adjust(1L, Dimension.STATUS, "TODO", -1);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ProjectIssueCounter> counters = repository.findByProjectId(1L);
+
+        assertEquals(2, counters.size());
+        assertEquals(4L, count(counters, "TODO"));
+        assertEquals(1L, count(counters, "DONE"));
+    }
+
+    @Test
+    void adjust_ShouldKeepBucketsOfOtherProjectsApart() {
+        repository.adjust(1L, Dimension.ASSIGNEE, "7", 1);
+        repository.adjust(2L, Dimension.ASSIGNEE, "7", 1);
+        repository.adjust(2L, Dimension.ASSIGNEE, "7", 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1L, count(repository.findByProjectId(1L), "7"));
+        assertEquals(2L, count(repository.findByProjectId(2L), "7"));
+    }
+
+    @Test
+    void insertIfAbsent_ShouldLeaveExistingBucketAlone_SoAdjustFallsBackToUpdate() {
+        assertEquals(1, repository.insertIfAbsent(1L, Dimension.TYPE.name(), "BUG", 2));
+        assertEquals(0, repository.insertIfAbsent(1L, Dimension.TYPE.name(), "BUG", 5));
+        entityManager.clear();
+
+        assertEquals(2L, count(repository.findByProjectId(1L), "BUG"));
+    }
+
+    private long count(List<ProjectIssueCounter> counters, String bucket) {
+        return counters.stream().filter(c -> c.getBucket().equals(bucket)).findFirst().orElseThrow().getIssueCount();
+    }
+}
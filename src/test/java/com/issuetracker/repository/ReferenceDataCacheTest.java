@@ -0,0 +1,113 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.Label;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Cached state is only shared after commit, so every repository call here runs in its own transaction
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        roleRepository.deleteAll();
+        labelRepository.deleteAll();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCache() {
+        Long id = projectRepository.save(Project.builder().name("Cached").key("CCH").build()).getId();
+        projectRepository.findById(id);
+        statistics.clear();
+
+        projectRepository.findById(id);
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByName_ShouldUseQueryCache_UntilTableChanges() {
+        roleRepository.save(Role.builder().name("AUDITOR").build());
+        statistics.clear();
+
+        roleRepository.findByName("AUDITOR");
+        roleRepository.findByName("AUDITOR");
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        roleRepository.save(Role.builder().name("GUEST").build());
+        roleRepository.findByName("AUDITOR");
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findAllRoles_ShouldUseQueryCache_AndReturnDetachedCopies() {
+        roleRepository.save(Role.builder().name("AUDITOR").build());
+        List<Role> first = roleRepository.findAll();
+        statistics.clear();
+
+        List<Role> second = roleRepository.findAll();
+
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertNotSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    void findLabelByName_ShouldNotOutliveBulkDelete() {
+        Label label = new Label();
+        label.setName("backend");
+        labelRepository.save(label);
+        statistics.clear();
+
+        labelRepository.findByName("backend");
+        labelRepository.findByName("backend");
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        labelRepository.deleteAllInBatch();
+
+        assertTrue(labelRepository.findByName("backend").isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.TopPerformerDTO;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.model.UserDailyClosed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserDailyClosedRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private UserDailyClosedRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Project web;
+    private Project api;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(User.builder().username("alice").email("alice@example.com").password("x").build());
+        bob = entityManager.persist(User.builder().username("bob").email("bob@example.com").password("x").build());
+        web = entityManager.persist(Project.builder().name("Web").key("WEB").build());
+        api = entityManager.persist(Project.builder().name("Api").key("API").build());
+
+        rollup(alice, web, DAY, 2);
+        rollup(alice, api, DAY.plusDays(1), 1);
+        rollup(bob, web, DAY, 4);
+        rollup(bob, web, DAY.minusDays(1), 5);
+        entityManager.flush();
+    }
+
+    @Test
+    void findTopPerformers_ShouldSumClosedCountsWithinRange() {
+        List<TopPerformerDTO> result = repository.findTopPerformers(DAY, DAY.plusDays(1), null, Limit.of(5));
+
+        assertEquals(List.of("bob", "alice"), result.stream().map(TopPerformerDTO::getUsername).toList());
+        assertEquals(List.of(4L, 3L), result.stream().map(TopPerformerDTO::getClosedCount).toList());
+    }
+
+    @Test
+    void findTopPerformers_ShouldFilterByProjectAndLimit() {
+        List<TopPerformerDTO> result = repository.findTopPerformers(DAY, DAY.plusDays(1), api.getId(), Limit.of(1));
+
+        assertEquals(1, result.size());
+        assertEquals(alice.getId(), result.get(0).getUserId());
+        assertEquals(1L, result.get(0).getClosedCount());
+    }
+
+    @Test
+    void addClosed_ShouldCreateRowOnFirstUse_AndAddOnLaterCalls() {
+        LocalDate day = DAY.plusDays(5);
+        repository.addClosed(alice.getId(), web.getId(), day, 1);
+        repository.addClosed(alice.getId(), web.getId(), day, 1);
+        repository.addClosed(bob.getId(), web.getId(), DAY, 1);
+        repository.addClosed(bob.getId(), web.getId(), DAY, -1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, closedCount(alice, web, day));
+        assertEquals(4, closedCount(bob, web, DAY));
+    }
+
+    @Test
+    void insertIfAbsent_ShouldLeaveExistingRowAlone_SoAddClosedFallsBackToUpdate() {
+        assertEquals(0, repository.insertIfAbsent(bob.getId(), web.getId(), DAY, 1));
+        entityManager.clear();
+
+        assertEquals(4, closedCount(bob, web, DAY));
+    }
+
+    private int closedCount(User user, Project project, LocalDate day) {
+        return repository.findById(new UserDailyClosed.Key(user.getId(), project.getId(), day))
+                .orElseThrow().getClosedCount();
+    }
+
+    private void rollup(User user, Project project, LocalDate day, int count) {
+        entityManager.persist(new UserDailyClosed(user.getId(), project.getId(), day, count));
+    }
+}
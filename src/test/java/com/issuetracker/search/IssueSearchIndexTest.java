@@ -0,0 +1,133 @@
+package com.issuetracker.search;
+
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.service.IssueCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IssueSearchIndexTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IssueSearchIndex index;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        index = new IssueSearchIndex(issueRepository, transactionManager);
+        ReflectionTestUtils.setField(index, "enabled", true);
+    }
+
+    @Test
+    void rebuild_ShouldIndexAllIssuesAndBecomeReady() {
+        when(issueRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000)))
+                .thenReturn(List.of(issue(1L, 10L, "Login page crashes", IssueStatus.TODO, now)));
+        when(issueRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any())).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L), index.search(10L, null, "crash", null, 10));
+    }
+
+    @Test
+    void rebuild_ShouldApplyChangesCommittedWhileItRuns() {
+        Issue loaded = issue(1L, 10L, "Login page crashes", IssueStatus.TODO, now);
+        Issue createdMeanwhile = issue(2L, 10L, "Export crashes", IssueStatus.TODO, now.plusMinutes(1));
+        when(issueRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1000))).thenAnswer(invocation -> {
+            // Both commit after this batch was read
+            created(createdMeanwhile);
+            Issue started = issue(1L, 10L, "Login page crashes", IssueStatus.IN_PROGRESS, now);
+            index.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.STATUS_CHANGED, started,
+                    "TODO", "IN_PROGRESS", now.plusMinutes(2)));
+            assertFalse(index.isReady());
+            return List.of(loaded);
+        });
+        when(issueRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any())).thenReturn(List.of());
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(2L, 1L), index.search(10L, null, "crash", null, 10));
+        assertEquals(List.of(1L), index.search(10L, IssueStatus.IN_PROGRESS, "", null, 10));
+    }
+
+    @Test
+    void search_ShouldMatchEveryWordAsPrefix() {
+        created(issue(1L, 10L, "Login page crashes", IssueStatus.TODO, now.minusMinutes(2)));
+        created(issue(2L, 10L, "Logout button", IssueStatus.TODO, now.minusMinutes(1)));
+        created(issue(3L, 20L, "Login in other project", IssueStatus.TODO, now));
+
+        assertEquals(List.of(2L, 1L), index.search(10L, null, "LOG", null, 10));
+        assertEquals(List.of(1L), index.search(10L, null, "log pag", null, 10));
+        assertEquals(List.of(), index.search(10L, null, "billing", null, 10));
+    }
+
+    @Test
+    void search_ShouldFilterByCurrentStatus() {
+        Issue issue = issue(1L, 10L, "Login page crashes", IssueStatus.TODO, now);
+        created(issue);
+
+        issue.setStatus(IssueStatus.IN_PROGRESS);
+        index.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.STATUS_CHANGED, issue, "TODO", "IN_PROGRESS"));
+
+        assertEquals(List.of(), index.search(10L, IssueStatus.TODO, "login", null, 10));
+        assertEquals(List.of(1L), index.search(10L, IssueStatus.IN_PROGRESS, "login", null, 10));
+    }
+
+    @Test
+    void search_ShouldPageNewestFirstFromCursor() {
+        for (long id = 1; id <= 5; id++) {
+            created(issue(id, 10L, "Task " + id, IssueStatus.TODO, now.plusMinutes(id)));
+        }
+
+        List<Long> firstPage = index.search(10L, null, "", null, 2);
+        List<Long> secondPage = index.search(10L, null, "", new IssueCursor(now.plusMinutes(4), 4L), 2);
+
+        assertEquals(List.of(5L, 4L), firstPage);
+        assertEquals(List.of(3L, 2L), secondPage);
+    }
+
+    @Test
+    void tokenize_ShouldSplitOnNonWordCharacters() {
+        assertEquals(List.of("null", "pointer", "in", "v2", "api"),
+                List.copyOf(IssueSearchIndex.tokenize("Null-pointer in v2 API!")));
+    }
+
+    private void created(Issue issue) {
+        index.onIssueChanged(IssueChangedEvent.created(issue));
+    }
+
+    private Issue issue(Long id, Long projectId, String title, IssueStatus status, LocalDateTime createdAt) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle(title);
+        issue.setStatus(status);
+        issue.setCreatedAt(createdAt);
+        issue.setProject(Project.builder().id(projectId).build());
+        return issue;
+    }
+}
@@ -0,0 +1,65 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.CollectionVersion;
+import com.issuetracker.exception.PreconditionFailedException;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    private static final LocalDateTime MAY_1 = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void of_ShouldChange_WhenReferencedTeamIsRenamed() {
+        Team team = Team.builder().id(2L).name("Core").updatedAt(MAY_1).build();
+        Project project = Project.builder().id(1L).team(team).updatedAt(MAY_1).build();
+        String before = EntityTags.of(project);
+
+        team.setUpdatedAt(MAY_1.plusMinutes(5));
+
+        assertNotEquals(before, EntityTags.of(project));
+        assertTrue(before.startsWith("\"") && before.endsWith("\""));
+    }
+
+    @Test
+    void of_ShouldDependOnCountAndLastModified_OfCollection() {
+        String tag = EntityTags.of("projects", new CollectionVersion(3L, MAY_1));
+
+        assertEquals(tag, EntityTags.of("projects", new CollectionVersion(3L, MAY_1)));
+        assertNotEquals(tag, EntityTags.of("projects", new CollectionVersion(2L, MAY_1)));
+        assertNotEquals(tag, EntityTags.of("teams", new CollectionVersion(3L, MAY_1)));
+    }
+
+    @Test
+    void collectionVersion_ShouldTakeNewestOfReferencedTimestamps() {
+        assertEquals(MAY_1.plusDays(1), new CollectionVersion(1L, MAY_1, null, MAY_1.plusDays(1)).lastModified());
+        assertNull(new CollectionVersion(0L, null, null).lastModified());
+    }
+
+    @Test
+    void isNotModified_ShouldMatchListedWeakAndWildcardTags() {
+        String tag = "\"abc\"";
+
+        assertTrue(EntityTags.isNotModified(tag, tag));
+        assertTrue(EntityTags.isNotModified("\"x\", W/\"abc\"", tag));
+        assertTrue(EntityTags.isNotModified("*", tag));
+        assertFalse(EntityTags.isNotModified("\"x\"", tag));
+        assertFalse(EntityTags.isNotModified(null, tag));
+    }
+
+    @Test
+    void checkIfMatch_ShouldRefuseStaleAndWeakTags() {
+        String tag = "\"abc\"";
+
+        assertDoesNotThrow(() -> EntityTags.checkIfMatch(null, tag));
+        assertDoesNotThrow(() -> EntityTags.checkIfMatch("*", tag));
+        assertDoesNotThrow(() -> EntityTags.checkIfMatch("\"x\", \"abc\"", tag));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.checkIfMatch("\"x\"", tag));
+        assertThrows(PreconditionFailedException.class, () -> EntityTags.checkIfMatch("W/\"abc\"", tag));
+    }
+}
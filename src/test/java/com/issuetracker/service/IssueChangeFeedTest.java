@@ -0,0 +1,201 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IssueChangeFeedTest {
+
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void onIssueChanged_ShouldPushToSubscribersOfTheProject() {
+        IssueChangeFeed feed = feed(new SyncTaskExecutor(), 10);
+        RecordingEmitter project1 = new RecordingEmitter();
+        RecordingEmitter project2 = new RecordingEmitter();
+        feed.subscribe(1L, null, project1);
+        feed.subscribe(2L, null, project2);
+
+        feed.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.STATUS_CHANGED, issue(1L, 10L),
+                "TODO", "IN_PROGRESS", LocalDateTime.of(2024, 3, 1, 10, 0)));
+
+        assertEquals(1, project1.events.size());
+        assertTrue(project1.events.get(0).contains("id:2024-03-01T10:00"));
+        assertTrue(project1.events.get(0).contains("event:status-changed"));
+        assertTrue(project1.events.get(0).contains("newValue=IN_PROGRESS"));
+        assertTrue(project2.events.isEmpty());
+        verifyNoInteractions(issueRepository, historyRepository);
+    }
+
+    @Test
+    void onIssueChanged_ShouldDisconnectSubscriberWhoseBufferIsFull() {
+        QueuedExecutor senders = new QueuedExecutor();
+        IssueChangeFeed feed = feed(senders, 2);
+        RecordingEmitter slow = new RecordingEmitter();
+        feed.subscribe(1L, null, slow);
+
+        // The first change starts a send that never gets to run, the third overflows the buffer
+        for (int i = 0; i < 3; i++) {
+            feed.onIssueChanged(IssueChangedEvent.created(issue(1L, 10L + i)));
+        }
+        senders.runAll();
+
+        assertTrue(slow.completed);
+        assertTrue(slow.events.isEmpty());
+        assertEquals(1.0, meterRegistry.counter("issuetracker.feed.evictions").count());
+        assertEquals(0.0, meterRegistry.get("issuetracker.feed.subscribers").gauge().value());
+    }
+
+    @Test
+    void subscribe_ShouldReplayChangesAfterLastEventId_AndSkipLiveDuplicates() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        IssueDTO created = new IssueDTO();
+        created.setId(11L);
+        created.setTitle("New issue");
+        created.setStatus(IssueStatus.TODO);
+        created.setCreatedAt(since.plusSeconds(20));
+        when(issueRepository.findCreatedAfter(eq(1L), eq(since.minus(OVERLAP)), any())).thenReturn(List.of(created));
+        when(historyRepository.findByProjectChangedAfter(eq(1L), eq(since.minus(OVERLAP)), any())).thenReturn(List.of(
+                new IssueHistoryDTO(5L, 10L, since.plusSeconds(10), null, null, "TODO", "IN_PROGRESS", null, null)));
+        IssueChangeFeed feed = feed(new SyncTaskExecutor(), 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        feed.subscribe(1L, since.toString(), emitter);
+        // Already replayed
+        feed.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.STATUS_CHANGED, issue(1L, 10L),
+                "TODO", "IN_PROGRESS", since.plusSeconds(10)));
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:status-changed"));
+        assertTrue(emitter.events.get(1).contains("event:created"));
+        assertTrue(emitter.events.get(1).contains("title=New issue"));
+    }
+
+    @Test
+    void subscribe_ShouldPushLiveChangeStampedBeforeReplayedOnes_WhenItCommitsLate() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        when(issueRepository.findCreatedAfter(eq(1L), eq(since.minus(OVERLAP)), any())).thenReturn(List.of());
+        when(historyRepository.findByProjectChangedAfter(eq(1L), eq(since.minus(OVERLAP)), any())).thenReturn(List.of(
+                new IssueHistoryDTO(5L, 10L, since.plusSeconds(20), null, null, "TODO", "IN_PROGRESS", null, null)));
+        IssueChangeFeed feed = feed(new SyncTaskExecutor(), 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        feed.subscribe(1L, since.toString(), emitter);
+        // Stamped before the replayed change but committed after the replay query
+        feed.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.ASSIGNED, issue(1L, 12L),
+                "Unassigned", "alice", since.plusSeconds(10)));
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(1).contains("event:assigned"));
+        assertTrue(emitter.events.get(1).contains("newValue=alice"));
+    }
+
+    @Test
+    void subscribe_ShouldAskForResync_WhenLastEventIdIsTooOldOrInvalid() {
+        IssueChangeFeed feed = feed(new SyncTaskExecutor(), 10);
+        RecordingEmitter old = new RecordingEmitter();
+        RecordingEmitter invalid = new RecordingEmitter();
+
+        feed.subscribe(1L, LocalDateTime.now().minusHours(1).toString(), old);
+        feed.subscribe(1L, "garbage", invalid);
+
+        assertEquals(1, old.events.size());
+        assertTrue(old.events.get(0).contains("event:" + IssueChangeFeed.RESYNC_EVENT));
+        assertTrue(invalid.events.get(0).contains("event:" + IssueChangeFeed.RESYNC_EVENT));
+        verifyNoInteractions(issueRepository, historyRepository);
+    }
+
+    private IssueChangeFeed feed(TaskExecutor senders, int bufferSize) {
+        return new IssueChangeFeed(issueRepository, historyRepository, meterRegistry, senders, bufferSize,
+                Duration.ofMinutes(10), OVERLAP, Duration.ofMinutes(30));
+    }
+
+    private static Issue issue(Long projectId, Long issueId) {
+        Project project = new Project();
+        project.setId(projectId);
+        Issue issue = new Issue();
+        issue.setId(issueId);
+        issue.setTitle("Issue " + issueId);
+        issue.setStatus(IssueStatus.TODO);
+        issue.setCreatedAt(LocalDateTime.now());
+        issue.setProject(project);
+        return issue;
+    }
+
+    // Records what would be written to the response, one string per event
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    private static class QueuedExecutor implements TaskExecutor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            new ArrayList<>(tasks).forEach(Runnable::run);
+        }
+    }
+}
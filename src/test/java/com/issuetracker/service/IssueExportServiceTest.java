@@ -0,0 +1,91 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueExportServiceTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IssueExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new IssueExportService(issueRepository, projectRepository,
+                new ObjectMapper().findAndRegisterModules(), transactionManager);
+    }
+
+    @Test
+    void exportIssues_ShouldWriteCsvWithEscaping_InReadOnlyTransaction() {
+        IssueDTO issue = new IssueDTO();
+        issue.setId(1L);
+        issue.setTitle("Crash, \"again\"");
+        issue.setStatus(IssueStatus.TODO);
+        issue.setProjectId(2L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(issueRepository.streamByProjectId(2L)).thenReturn(Stream.of(issue).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportIssues(2L, IssueExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,type,status"));
+        assertEquals("1,\"Crash, \"\"again\"\"\",,,TODO,,,,2,,,,,", lines[1]);
+        assertTrue(closed.get());
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void exportIssues_ShouldWriteOneJsonObjectPerLine() {
+        IssueDTO first = new IssueDTO();
+        first.setId(1L);
+        IssueDTO second = new IssueDTO();
+        second.setId(2L);
+        when(issueRepository.streamByProjectId(2L)).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportIssues(2L, IssueExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    void checkExportable_ShouldThrow_WhenProjectMissing() {
+        when(projectRepository.existsById(9L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> exportService.checkExportable(9L));
+    }
+}
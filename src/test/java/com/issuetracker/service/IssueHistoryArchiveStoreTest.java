@@ -0,0 +1,85 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.IssueHistoryDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IssueHistoryArchiveStoreTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldReturnRowsOfOneIssue_AcrossBlocks() throws Exception {
+        // Two rows per block: issue 2 has three rows, so its block runs over the limit
+        IssueHistoryArchiveStore store = new IssueHistoryArchiveStore(new ObjectMapper().findAndRegisterModules(),
+                directory, 2);
+        List<IssueHistoryDTO> rows = new ArrayList<>();
+        long id = 1;
+        for (long issueId = 1; issueId <= 5; issueId++) {
+            for (int i = 0; i < (issueId == 2 ? 3 : 1); i++) {
+                rows.add(row(id++, issueId));
+            }
+        }
+
+        long written = store.write(MONTH, rows.iterator());
+
+        assertEquals(7, written);
+        Path file = store.file(MONTH);
+        assertTrue(Files.exists(file));
+        assertEquals(3, Files.readAllLines(file.resolveSibling(file.getFileName() + ".idx")).size());
+        assertEquals(List.of(2L, 3L, 4L), store.read(file, 2L).stream().map(IssueHistoryDTO::getId).toList());
+        assertEquals(List.of(7L), store.read(file, 5L).stream().map(IssueHistoryDTO::getId).toList());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0).plusMinutes(6), store.read(file, 5L).get(0).getChangedAt());
+        assertTrue(store.read(file, 9L).isEmpty());
+    }
+
+    @Test
+    void read_ShouldReturnNothing_ForEmptyMonth() throws Exception {
+        IssueHistoryArchiveStore store = new IssueHistoryArchiveStore(new ObjectMapper().findAndRegisterModules(),
+                directory, 100);
+
+        assertEquals(0, store.write(MONTH, List.<IssueHistoryDTO>of().iterator()));
+        assertTrue(store.read(store.file(MONTH), 1L).isEmpty());
+    }
+
+    @Test
+    void write_ShouldKeepEarlierFile_AndLeaveNoTempFiles_WhenRowsFail() throws Exception {
+        IssueHistoryArchiveStore store = new IssueHistoryArchiveStore(new ObjectMapper().findAndRegisterModules(),
+                directory, 100);
+        store.write(MONTH, List.of(row(1, 1)).iterator());
+        Iterator<IssueHistoryDTO> failing = Stream.<Supplier<IssueHistoryDTO>>of(
+                () -> row(2, 2),
+                () -> { throw new IllegalStateException("connection lost"); }).map(Supplier::get).iterator();
+
+        assertThrows(IllegalStateException.class, () -> store.write(MONTH, failing));
+
+        assertEquals(List.of(1L), store.read(store.file(MONTH), 1L).stream().map(IssueHistoryDTO::getId).toList());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("issue_history_2024_03.ndjson.gz", "issue_history_2024_03.ndjson.gz.idx"),
+                    files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    private static IssueHistoryDTO row(long id, long issueId) {
+        return new IssueHistoryDTO(id, issueId, LocalDateTime.of(2024, 3, 1, 10, 0).plusMinutes(id - 1),
+                1L, "alice", "TODO", "IN_PROGRESS", null, "alice");
+    }
+}
@@ -0,0 +1,109 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.IssueHistoryArchive;
+import com.issuetracker.repository.IssueHistoryArchiveRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueHistoryArchiverTest {
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    @Mock
+    private IssueHistoryArchiveRepository archiveRepository;
+
+    @Mock
+    private IssueHistoryArchiveStore archiveStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IssueHistoryArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new IssueHistoryArchiver(historyRepository, archiveRepository, archiveStore, transactionManager,
+                true, 12, 2);
+    }
+
+    @Test
+    void run_ShouldCreateUpcomingPartitions_AndArchiveMonthsPastRetention() throws Exception {
+        when(historyRepository.tryAdvisoryXactLock(IssueHistoryArchiver.LOCK_KEY)).thenReturn(true);
+        when(historyRepository.findPartitionMonths()).thenReturn(List.of("2024_01", "2024_02", "2024_03"));
+        when(archiveRepository.existsById(any())).thenReturn(false);
+        when(historyRepository.streamForArchive(any(), any())).thenReturn(Stream.empty());
+        when(archiveStore.write(any(), any())).thenReturn(42L);
+        when(archiveStore.file(any())).thenReturn(Path.of("/archive/issue_history_2024_01.ndjson.gz"));
+
+        List<YearMonth> archived = archiver.run(YearMonth.of(2025, 2));
+
+        assertEquals(List.of(YearMonth.of(2024, 1)), archived);
+        verify(historyRepository).createPartition(LocalDate.of(2025, 2, 1));
+        verify(historyRepository).createPartition(LocalDate.of(2025, 3, 1));
+        verify(historyRepository).createPartition(LocalDate.of(2025, 4, 1));
+        verify(historyRepository).streamForArchive(LocalDate.of(2024, 1, 1).atStartOfDay(),
+                LocalDate.of(2024, 2, 1).atStartOfDay());
+        ArgumentCaptor<IssueHistoryArchive> registered = ArgumentCaptor.forClass(IssueHistoryArchive.class);
+        verify(archiveRepository).save(registered.capture());
+        assertEquals(LocalDate.of(2024, 1, 1), registered.getValue().getMonth());
+        assertEquals(42L, registered.getValue().getRowCount());
+        verify(historyRepository).dropPartition(LocalDate.of(2024, 1, 1));
+        verify(historyRepository, never()).dropPartition(LocalDate.of(2024, 2, 1));
+    }
+
+    @Test
+    void run_ShouldOnlyDropPartition_WhenMonthAlreadyArchived() throws Exception {
+        when(historyRepository.tryAdvisoryXactLock(IssueHistoryArchiver.LOCK_KEY)).thenReturn(true);
+        when(historyRepository.findPartitionMonths()).thenReturn(List.of("2024_01"));
+        when(archiveRepository.existsById(LocalDate.of(2024, 1, 1))).thenReturn(true);
+
+        archiver.run(YearMonth.of(2025, 6));
+
+        verify(archiveStore, never()).write(any(), any());
+        verify(archiveRepository, never()).save(any());
+        verify(historyRepository).dropPartition(eq(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void run_ShouldLeaveEverything_WhenAnotherInstanceHoldsTheLock() throws Exception {
+        when(historyRepository.tryAdvisoryXactLock(IssueHistoryArchiver.LOCK_KEY)).thenReturn(false);
+
+        List<YearMonth> archived = archiver.run(YearMonth.of(2025, 6));
+
+        assertEquals(List.of(), archived);
+        verify(historyRepository, never()).createPartition(any());
+        verify(historyRepository, never()).findPartitionMonths();
+        verifyNoInteractions(archiveStore, archiveRepository);
+    }
+
+    @Test
+    void run_ShouldStopBeforeMonth_WhenAnotherInstanceTookTheLockMeanwhile() throws Exception {
+        when(historyRepository.tryAdvisoryXactLock(IssueHistoryArchiver.LOCK_KEY)).thenReturn(true, false);
+        when(historyRepository.findPartitionMonths()).thenReturn(List.of("2024_01", "2024_02"));
+
+        List<YearMonth> archived = archiver.run(YearMonth.of(2025, 6));
+
+        assertEquals(List.of(), archived);
+        verifyNoInteractions(archiveStore, archiveRepository);
+        verify(historyRepository, never()).dropPartition(any());
+    }
+}
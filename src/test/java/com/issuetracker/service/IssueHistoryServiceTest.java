@@ -0,0 +1,93 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssueHistoryArchive;
+import com.issuetracker.repository.IssueHistoryArchiveRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IssueHistoryServiceTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    @Mock
+    private IssueHistoryArchiveRepository archiveRepository;
+
+    @TempDir
+    Path directory;
+
+    private IssueHistoryArchiveStore archiveStore;
+    private IssueHistoryService historyService;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archiveStore = new IssueHistoryArchiveStore(new ObjectMapper().findAndRegisterModules(), directory, 100);
+        historyService = new IssueHistoryService(issueRepository, historyRepository, archiveRepository, archiveStore);
+        issue = new Issue();
+        issue.setId(7L);
+        issue.setCreatedAt(LocalDateTime.of(2024, 1, 5, 9, 0));
+
+        // Issue 7 changed twice in January and twice in February; issue 8 is in the same files
+        archiveStore.write(JANUARY, List.of(row(1L, 7L, 10), row(2L, 7L, 20), row(3L, 8L, 15)).iterator());
+        archiveStore.write(FEBRUARY, List.of(row(4L, 7L, 40), row(5L, 7L, 50)).iterator());
+    }
+
+    @Test
+    void getArchivedPage_ShouldReadMonthsOldestFirst_UntilThePageIsFull() {
+        when(archiveRepository.findByMonthGreaterThanEqualOrderByMonth(LocalDate.of(2024, 1, 1)))
+                .thenReturn(List.of(archive(JANUARY), archive(FEBRUARY)));
+
+        assertEquals(List.of(1L, 2L, 4L), ids(historyService.getArchivedPage(issue, null, null, 3)));
+    }
+
+    @Test
+    void getArchivedPage_ShouldContinueAfterCursor_FromTheCursorsMonth() {
+        when(archiveRepository.findByMonthGreaterThanEqualOrderByMonth(LocalDate.of(2024, 2, 1)))
+                .thenReturn(List.of(archive(FEBRUARY)));
+
+        assertEquals(List.of(5L), ids(historyService.getArchivedPage(issue, at(40), 4L, 10)));
+    }
+
+    private IssueHistoryArchive archive(YearMonth month) {
+        return new IssueHistoryArchive(month.atDay(1), archiveStore.file(month).toString(), 0, LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<IssueHistoryDTO> rows) {
+        return rows.stream().map(IssueHistoryDTO::getId).toList();
+    }
+
+    // Day 1-31 falls in January, 32 and later in February
+    private static LocalDateTime at(int day) {
+        return LocalDateTime.of(2024, 1, 1, 12, 0).plusDays(day - 1);
+    }
+
+    private static IssueHistoryDTO row(Long id, Long issueId, int day) {
+        return new IssueHistoryDTO(id, issueId, at(day), 2L, "alice", "TODO", "IN_PROGRESS", null, null);
+    }
+}
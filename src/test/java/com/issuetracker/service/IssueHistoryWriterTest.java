@@ -0,0 +1,90 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.IssueHistory;
+import com.issuetracker.repository.IssueHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueHistoryWriterTest {
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void record_ShouldSaveImmediately_WhenNoTransaction() {
+        IssueHistoryWriter writer = writer(IssueHistoryWriter.Mode.SYNC);
+        IssueHistory history = new IssueHistory();
+
+        writer.record(history);
+
+        verify(historyRepository).save(history);
+    }
+
+    @Test
+    void record_ShouldBatchRowsBeforeCommit_WhenSync() {
+        IssueHistoryWriter writer = writer(IssueHistoryWriter.Mode.SYNC);
+        TransactionSynchronizationManager.initSynchronization();
+        IssueHistory first = new IssueHistory();
+        IssueHistory second = new IssueHistory();
+
+        writer.record(first);
+        writer.record(second);
+        verifyNoInteractions(historyRepository);
+
+        completeTransaction();
+
+        verify(historyRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void record_ShouldQueueRowsAfterCommit_WhenAsync() {
+        IssueHistoryWriter writer = writer(IssueHistoryWriter.Mode.ASYNC);
+        TransactionSynchronizationManager.initSynchronization();
+        IssueHistory history = new IssueHistory();
+
+        writer.record(history);
+        completeTransaction();
+
+        verifyNoInteractions(historyRepository);
+        assertEquals(1, writer.pendingCount());
+
+        writer.flush();
+
+        verify(historyRepository).saveAll(any());
+        assertEquals(0, writer.pendingCount());
+    }
+
+    private IssueHistoryWriter writer(IssueHistoryWriter.Mode mode) {
+        return new IssueHistoryWriter(historyRepository, transactionManager, mode, 100, 100);
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,131 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.BulkImportLineResult;
+import com.issuetracker.dto.BulkImportLineResult.Status;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.IssueMapper;
+import com.issuetracker.model.Issue;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssueImportServiceTest {
+
+    @Mock
+    private IssueService issueService;
+
+    @Mock
+    private IssueMapper issueMapper;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IssueImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new IssueImportService(issueService, issueMapper, projectRepository, userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                new ObjectMapper().findAndRegisterModules(), transactionManager, 2);
+    }
+
+    @Test
+    void importIssues_ShouldReportEachLine_AndWriteValidLinesInChunks() throws Exception {
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of(7L));
+        when(issueMapper.toEntity(any())).thenAnswer(invocation -> new Issue());
+        AtomicLong ids = new AtomicLong(100);
+        when(issueService.createIssues(any())).thenAnswer(invocation -> {
+            List<Issue> issues = invocation.getArgument(0);
+            issues.forEach(issue -> issue.setId(ids.getAndIncrement()));
+            return issues;
+        });
+
+        List<BulkImportLineResult> results = new ArrayList<>();
+        importService.importIssues(1L, ndjson(
+                "{\"title\":\"A\",\"type\":\"TASK\",\"priority\":\"LOW\",\"reporterId\":7}",
+                "not json",
+                "{\"title\":\"B\",\"type\":\"BUG\",\"priority\":\"HIGH\"}",
+                "",
+                "{\"type\":\"BUG\",\"priority\":\"HIGH\"}",
+                "{\"title\":\"C\",\"type\":\"TASK\",\"priority\":\"LOW\",\"reporterId\":99}"), results::add);
+
+        assertEquals(5, results.size());
+        BulkImportLineResult notJson = find(results, 2);
+        assertEquals(Status.FAILED, notJson.getStatus());
+        assertTrue(find(results, 5).getErrors().containsKey("title"));
+        assertTrue(find(results, 6).getErrors().containsKey("reporterId"));
+        assertEquals(100L, find(results, 1).getIssueId());
+        assertEquals(101L, find(results, 3).getIssueId());
+
+        // Lines 1 and 3 fill the first chunk; line 6 makes the second one, rejected before it is written
+        verify(issueService, times(1)).createIssues(argThat(issues -> issues.size() == 2));
+        verify(issueService, never()).createIssue(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    void importIssues_ShouldFailWholeChunk_WhenSaveFails() throws Exception {
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(issueMapper.toEntity(any())).thenAnswer(invocation -> new Issue());
+        when(issueService.createIssues(any())).thenThrow(new IllegalStateException("boom"));
+
+        List<BulkImportLineResult> results = new ArrayList<>();
+        importService.importIssues(1L, ndjson(
+                "{\"title\":\"A\",\"type\":\"TASK\",\"priority\":\"LOW\"}"), results::add);
+
+        assertEquals(1, results.size());
+        assertEquals(Status.FAILED, results.get(0).getStatus());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void importIssues_ShouldThrow_WhenProjectMissing() {
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> importService.importIssues(1L, ndjson("{}"), result -> { }));
+        verifyNoInteractions(issueService);
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BulkImportLineResult find(List<BulkImportLineResult> results, long line) {
+        return results.stream().filter(result -> result.getLine() == line).findFirst().orElseThrow();
+    }
+}
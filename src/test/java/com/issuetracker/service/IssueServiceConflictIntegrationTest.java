@@ -0,0 +1,100 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+// Two real transactions on the same issue: the loser's version check fails at commit and the retry re-reads it
+@SpringBootTest(properties = {
+        "issuetracker.retry.initial-delay-ms=1",
+        "issuetracker.retry.max-delay-ms=2"
+})
+@ActiveProfiles("test")
+class IssueServiceConflictIntegrationTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private IssueRepository issueRepository;
+
+    @Test
+    void startIssue_ShouldRetry_WhenConcurrentAssignmentCommitsFirst() throws Exception {
+        Project project = new Project();
+        project.setName("Conflicts");
+        project.setKey("CNF");
+        project = projectService.createProject(project);
+        User assignee = userRepository.save(User.builder()
+                .username("conflict-assignee").email("conflict-assignee@example.com").password("secret").build());
+        Issue issue = new Issue();
+        issue.setTitle("Contended");
+        issue.setPriority(IssuePriority.LOW);
+        issue.setProject(project);
+        Long issueId = issueService.createIssue(issue).getId();
+
+        // The start has read version 0; another thread assigns the issue and commits before the start flushes
+        // Spring Data repositories are interface proxies; the spy forwards to the real one through its default answer
+        Answer<?> forward = mockingDetails(issueRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean interfered = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        doAnswer(invocation -> {
+            Issue saving = invocation.getArgument(0);
+            if (saving.getId().equals(issueId) && saving.getStatus() == IssueStatus.IN_PROGRESS
+                    && interfered.compareAndSet(false, true)) {
+                executor.submit(() -> issueService.assignIssue(issueId, assignee, null)).get(5, TimeUnit.SECONDS);
+            }
+            return forward.answer(invocation);
+        }).when(issueRepository).save(any(Issue.class));
+        double conflicts = count("issuetracker.issue.conflicts", "method", "startIssue");
+        double recovered = count("issuetracker.issue.conflict.outcomes", "method", "startIssue", "outcome", "recovered");
+
+        try {
+            issueService.startIssue(issueId, null);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Issue stored = issueRepository.findWithAssigneeByIdIn(List.of(issueId)).get(0);
+        assertEquals(IssueStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(assignee.getId(), stored.getAssignee().getId());
+        assertEquals(2L, stored.getVersion());
+        assertEquals(1.0, count("issuetracker.issue.conflicts", "method", "startIssue") - conflicts);
+        assertEquals(1.0, count("issuetracker.issue.conflict.outcomes",
+                "method", "startIssue", "outcome", "recovered") - recovered);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.counter(name, tags).count();
+    }
+}
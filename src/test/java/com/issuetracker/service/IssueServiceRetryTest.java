@@ -0,0 +1,88 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "issuetracker.retry.initial-delay-ms=1",
+        "issuetracker.retry.max-delay-ms=2"
+})
+@ActiveProfiles("test")
+class IssueServiceRetryTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private IssueRepository issueRepository;
+
+    @MockBean
+    private IssueHistoryWriter historyWriter;
+
+    @Test
+    void startIssue_ShouldRereadAndRetry_WhenVersionConflicts() {
+        when(issueRepository.findById(1L)).thenAnswer(i -> Optional.of(todoIssue(1L)));
+        when(issueRepository.save(any(Issue.class)))
+                .thenThrow(new OptimisticLockingFailureException("Simulated concurrency error"))
+                .thenAnswer(i -> i.getArguments()[0]);
+        double conflicts = count("issuetracker.issue.conflicts", "method", "startIssue");
+        double recovered = count("issuetracker.issue.conflict.outcomes", "method", "startIssue", "outcome", "recovered");
+
+        Issue result = issueService.startIssue(1L, null);
+
+        assertEquals(IssueStatus.IN_PROGRESS, result.getStatus());
+        verify(issueRepository, times(2)).findById(1L);
+        assertEquals(1.0, count("issuetracker.issue.conflicts", "method", "startIssue") - conflicts);
+        assertEquals(1.0, count("issuetracker.issue.conflict.outcomes",
+                "method", "startIssue", "outcome", "recovered") - recovered);
+    }
+
+    @Test
+    void assignIssue_ShouldPropagateConflict_WhenRetriesRunOut() {
+        when(issueRepository.findById(2L)).thenAnswer(i -> Optional.of(todoIssue(2L)));
+        when(issueRepository.save(any(Issue.class)))
+                .thenThrow(new OptimisticLockingFailureException("Simulated concurrency error"));
+        double exhausted = count("issuetracker.issue.conflict.outcomes", "method", "assignIssue", "outcome", "exhausted");
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> issueService.assignIssue(2L, new User(), null));
+
+        verify(issueRepository, times(4)).findById(2L);
+        assertEquals(1.0, count("issuetracker.issue.conflict.outcomes",
+                "method", "assignIssue", "outcome", "exhausted") - exhausted);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.counter(name, tags).count();
+    }
+
+    private Issue todoIssue(Long id) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setStatus(IssueStatus.TODO);
+        issue.setPriority(IssuePriority.LOW);
+        issue.setProject(Project.builder().id(1L).build());
+        return issue;
+    }
+}
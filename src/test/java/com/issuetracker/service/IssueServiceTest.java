@@ -1,23 +1,51 @@
 package com.issuetracker.service;
 
+import com.issuetracker.dto.BatchTransitionResult;
+import com.issuetracker.dto.BatchTransitionResult.Outcome;
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueDTO;
+import com.issuetracker.event.IssueChangedEvent;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.PreconditionFailedException;
 import com.issuetracker.model.Issue;
 import com.issuetracker.model.Issue.IssuePriority;
 import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.ProjectIssueCounter;
+import com.issuetracker.model.ProjectIssueCounter.Dimension;
 import com.issuetracker.model.User;
-import com.issuetracker.repository.IssueHistoryRepository;
 import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.UserDailyClosedRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.search.IssueSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,11 +55,75 @@ class IssueServiceTest {
     private IssueRepository issueRepository;
 
     @Mock
-    private IssueHistoryRepository historyRepository;
+    private IssueHistoryWriter historyWriter;
+
+    @Mock
+    private IssueSearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDailyClosedRepository dailyClosedRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProjectIssueCounterService counterService;
 
     @InjectMocks
     private IssueService issueService;
 
+    @Test
+    void createIssue_ShouldSaveInTodo_AndCountIt() {
+        Issue issue = new Issue();
+        issue.setProject(Project.builder().id(5L).version(0L).build());
+        when(issueRepository.save(any(Issue.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        Issue result = issueService.createIssue(issue);
+
+        assertEquals(IssueStatus.TODO, result.getStatus());
+        verify(counterService).issueCreated(result);
+    }
+
+    @Test
+    void createIssues_ShouldSaveChunkAtOnce_AndApplyCountersOnce() {
+        Project project = Project.builder().id(5L).version(0L).build();
+        Issue bug = new Issue();
+        bug.setProject(project);
+        bug.setPriority(IssuePriority.HIGH);
+        bug.setType(Issue.IssueType.BUG);
+        Issue task = new Issue();
+        task.setProject(project);
+        task.setPriority(IssuePriority.HIGH);
+        task.setType(Issue.IssueType.TASK);
+        when(issueRepository.saveAll(anyList())).thenAnswer(i -> i.getArguments()[0]);
+
+        List<Issue> result = issueService.createIssues(List.of(bug, task));
+
+        assertEquals(List.of(IssueStatus.TODO, IssueStatus.TODO), result.stream().map(Issue::getStatus).toList());
+        verify(issueRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(IssueChangedEvent.class));
+        ArgumentCaptor<ProjectIssueCounterService.Deltas> deltas =
+                ArgumentCaptor.forClass(ProjectIssueCounterService.Deltas.class);
+        verify(counterService).apply(deltas.capture());
+        verify(counterService, never()).issueCreated(any());
+        assertEquals(Map.of(
+                new ProjectIssueCounter.Key(5L, Dimension.STATUS, "TODO"), 2L,
+                new ProjectIssueCounter.Key(5L, Dimension.PRIORITY, "HIGH"), 2L,
+                new ProjectIssueCounter.Key(5L, Dimension.TYPE, "BUG"), 1L,
+                new ProjectIssueCounter.Key(5L, Dimension.TYPE, "TASK"), 1L,
+                new ProjectIssueCounter.Key(5L, Dimension.ASSIGNEE, ProjectIssueCounter.UNASSIGNED), 2L),
+                deltas.getValue().values());
+    }
+
     @Test
     void startIssue_ShouldSucceed_WhenValid() {
         // Arrange
@@ -45,11 +137,11 @@ class IssueServiceTest {
         when(issueRepository.save(any(Issue.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
-        Issue result = issueService.startIssue(issueId);
+        Issue result = issueService.startIssue(issueId, null);
 
         // Assert
         assertEquals(IssueStatus.IN_PROGRESS, result.getStatus());
-        verify(historyRepository, times(1)).save(any());
+        verify(historyWriter, times(1)).record(any());
     }
 
     @Test
@@ -65,7 +157,64 @@ class IssueServiceTest {
         when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
 
         // Act & Assert
-        assertThrows(IllegalStateException.class, () -> issueService.startIssue(issueId));
+        assertThrows(IllegalStateException.class, () -> issueService.startIssue(issueId, null));
+    }
+
+    @Test
+    void startIssue_ShouldThrowPreconditionFailed_WhenIfMatchIsStale() {
+        Issue issue = new Issue();
+        issue.setId(1L);
+        issue.setVersion(3L);
+        issue.setStatus(IssueStatus.TODO);
+        issue.setPriority(IssuePriority.MEDIUM);
+        String staleETag = EntityTags.of(issue);
+        issue.setVersion(4L);
+
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+
+        assertThrows(PreconditionFailedException.class, () -> issueService.startIssue(1L, staleETag));
+        verify(issueRepository, never()).save(any(Issue.class));
+    }
+
+    @Test
+    void completeIssue_ShouldStampCompletionAndUpdateRollup() {
+        // Arrange
+        User assignee = new User();
+        assignee.setId(2L);
+        Issue issue = new Issue();
+        issue.setId(1L);
+        issue.setStatus(IssueStatus.IN_PROGRESS);
+        issue.setAssignee(assignee);
+        issue.setProject(Project.builder().id(3L).build());
+
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+        when(issueRepository.save(any(Issue.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        // Act
+        Issue result = issueService.completeIssue(1L, null);
+
+        // Assert
+        assertEquals(IssueStatus.DONE, result.getStatus());
+        assertNotNull(result.getCompletedAt());
+        verify(dailyClosedRepository).addClosed(2L, 3L, result.getCompletedAt().toLocalDate(), 1);
+        verify(counterService).statusChanged(issue, IssueStatus.IN_PROGRESS, IssueStatus.DONE);
+    }
+
+    @Test
+    void getTopPerformers_ShouldDefaultToLastThirtyDays() {
+        LocalDate today = LocalDate.now();
+
+        issueService.getTopPerformers(null, null, null, 5);
+
+        verify(dailyClosedRepository).findTopPerformers(today.minusDays(29), today, null, Limit.of(5));
+    }
+
+    @Test
+    void getTopPerformers_ShouldThrow_WhenRangeIsInverted() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(BadRequestException.class,
+                () -> issueService.getTopPerformers(today, today.minusDays(1), null, 5));
     }
 
     @Test
@@ -82,6 +231,217 @@ class IssueServiceTest {
         when(issueRepository.save(any(Issue.class))).thenThrow(new OptimisticLockingFailureException("Simulated concurrency error"));
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> issueService.assignIssue(issueId, user));
+        assertThrows(RuntimeException.class, () -> issueService.assignIssue(issueId, user, null));
+    }
+
+    @Test
+    void assignIssue_ShouldMoveCompletionCredit_WhenIssueIsDone() {
+        // Arrange
+        User previous = User.builder().id(2L).username("old").build();
+        User next = User.builder().id(4L).username("new").build();
+        LocalDateTime completedAt = LocalDateTime.of(2026, 3, 10, 16, 30);
+        Issue issue = new Issue();
+        issue.setId(1L);
+        issue.setStatus(IssueStatus.DONE);
+        issue.setCompletedAt(completedAt);
+        issue.setAssignee(previous);
+        issue.setProject(Project.builder().id(3L).build());
+
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+        when(issueRepository.save(any(Issue.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        // Act
+        issueService.assignIssue(1L, next, null);
+
+        // Assert
+        verify(dailyClosedRepository).addClosed(2L, 3L, completedAt.toLocalDate(), -1);
+        verify(dailyClosedRepository).addClosed(4L, 3L, completedAt.toLocalDate(), 1);
+    }
+
+    @Test
+    void assignIssue_ShouldLeaveRollupAlone_WhenIssueIsNotDone() {
+        // Arrange
+        Issue issue = todoIssue(1L, IssuePriority.LOW);
+        issue.setAssignee(User.builder().id(2L).username("old").build());
+
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue));
+        when(issueRepository.save(any(Issue.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        // Act
+        issueService.assignIssue(1L, User.builder().id(4L).username("new").build(), null);
+
+        // Assert
+        verifyNoInteractions(dailyClosedRepository);
+    }
+
+    @Test
+    void searchIssues_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        IssueDTO newest = issueCreatedAt(3L, now);
+        IssueDTO middle = issueCreatedAt(2L, now.minusMinutes(1));
+        IssueDTO oldest = issueCreatedAt(1L, now.minusMinutes(2));
+
+        when(issueRepository.searchIssues(eq(1L), isNull(), eq(""), isNull(), isNull(), eq(Limit.of(3))))
+                .thenReturn(List.of(newest, middle, oldest));
+        when(issueRepository.searchIssues(eq(1L), isNull(), eq(""), eq(middle.getCreatedAt()), eq(2L), eq(Limit.of(3))))
+                .thenReturn(List.of(oldest));
+
+        // Act
+        CursorPage<IssueDTO> first = issueService.searchIssues(1L, null, null, null, 2);
+        CursorPage<IssueDTO> second = issueService.searchIssues(1L, null, null, first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(newest, middle), first.getItems());
+        assertNotNull(first.getNextCursor());
+        assertEquals(List.of(oldest), second.getItems());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void searchIssues_ShouldUseIndex_WhenReady() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        IssueDTO newer = issueCreatedAt(7L, now);
+        IssueDTO older = issueCreatedAt(4L, now.minusMinutes(1));
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search(1L, IssueStatus.TODO, "login", null, 11)).thenReturn(List.of(7L, 4L));
+        when(issueRepository.findDTOsByIdIn(List.of(7L, 4L))).thenReturn(List.of(older, newer));
+
+        // Act
+        CursorPage<IssueDTO> page = issueService.searchIssues(1L, IssueStatus.TODO, "login", null, 10);
+
+        // Assert
+        assertEquals(List.of(newer, older), page.getItems());
+        verify(issueRepository, never()).searchIssues(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchIssues_ShouldThrow_WhenCursorIsInvalid() {
+        assertThrows(BadRequestException.class, () -> issueService.searchIssues(1L, null, null, "not-a-cursor", 10));
+    }
+
+    @Test
+    void searchIssues_ShouldThrow_WhenLimitOutOfRange() {
+        assertThrows(BadRequestException.class, () -> issueService.searchIssues(1L, null, null, null, 0));
+    }
+
+    @Test
+    void searchIssuesRanked_ShouldTrimQuery() {
+        IssueDTO issue = issueCreatedAt(1L, LocalDateTime.now());
+        when(issueRepository.searchIssuesRanked(1L, IssueStatus.TODO, "login crash", Limit.of(20)))
+                .thenReturn(List.of(issue));
+
+        List<IssueDTO> result = issueService.searchIssuesRanked(1L, IssueStatus.TODO, "  login crash ", 20);
+
+        assertEquals(List.of(issue), result);
+    }
+
+    @Test
+    void searchIssuesRanked_ShouldThrow_WhenQueryIsBlank() {
+        assertThrows(BadRequestException.class, () -> issueService.searchIssuesRanked(1L, null, " ", 20));
+    }
+
+    @Test
+    void batchTransition_ShouldReportOutcomePerIssue() {
+        // Arrange
+        Issue ready = todoIssue(1L, IssuePriority.LOW);
+        Issue unassignedHigh = todoIssue(2L, IssuePriority.HIGH);
+        Issue concurrentlyChanged = todoIssue(3L, IssuePriority.MEDIUM);
+
+        when(issueRepository.findWithAssigneeByIdIn(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(ready, unassignedHigh, concurrentlyChanged));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenReturn(new int[][]{{1, 0}});
+
+        // Act
+        List<BatchTransitionResult> results =
+                issueService.batchTransition(List.of(1L, 2L, 3L, 4L, 1L), IssueStatus.IN_PROGRESS, null);
+
+        // Assert
+        assertEquals(List.of(Outcome.UPDATED, Outcome.REJECTED, Outcome.CONFLICT, Outcome.NOT_FOUND),
+                results.stream().map(BatchTransitionResult::getOutcome).toList());
+        assertEquals(IssueStatus.IN_PROGRESS, ready.getStatus());
+        assertEquals(1L, ready.getVersion());
+        assertEquals(IssueStatus.TODO, concurrentlyChanged.getStatus());
+        verify(entityManager).detach(ready);
+        verify(historyWriter, times(1)).record(any());
+        verify(issueRepository, never()).save(any());
+
+        // Only the issue whose row was updated moves between counter buckets
+        ArgumentCaptor<ProjectIssueCounterService.Deltas> deltas =
+                ArgumentCaptor.forClass(ProjectIssueCounterService.Deltas.class);
+        verify(counterService).apply(deltas.capture());
+        assertEquals(Map.of(
+                new ProjectIssueCounter.Key(3L, Dimension.STATUS, "TODO"), -1L,
+                new ProjectIssueCounter.Key(3L, Dimension.STATUS, "IN_PROGRESS"), 1L), deltas.getValue().values());
+    }
+
+    @Test
+    void batchTransition_ShouldApplyAssignmentBeforeSlaRule() {
+        // Arrange
+        User assignee = new User();
+        assignee.setId(5L);
+        assignee.setUsername("dev");
+        Issue issue = todoIssue(1L, IssuePriority.HIGH);
+
+        when(userRepository.findById(5L)).thenReturn(Optional.of(assignee));
+        when(issueRepository.findWithAssigneeByIdIn(List.of(1L))).thenReturn(List.of(issue));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenReturn(new int[][]{{1}});
+
+        // Act
+        List<BatchTransitionResult> results = issueService.batchTransition(List.of(1L), IssueStatus.IN_PROGRESS, 5L);
+
+        // Assert
+        assertEquals(Outcome.UPDATED, results.get(0).getOutcome());
+        assertEquals(assignee, issue.getAssignee());
+        verify(historyWriter, times(2)).record(any());
+    }
+
+    @Test
+    void batchTransition_ShouldMoveCompletionCredit_WhenReassigningDoneIssue() {
+        // Arrange
+        User assignee = User.builder().id(5L).username("dev").build();
+        LocalDateTime completedAt = LocalDateTime.of(2026, 3, 10, 16, 30);
+        Issue issue = todoIssue(1L, IssuePriority.LOW);
+        issue.setStatus(IssueStatus.DONE);
+        issue.setCompletedAt(completedAt);
+        issue.setAssignee(User.builder().id(2L).username("old").build());
+
+        when(userRepository.findById(5L)).thenReturn(Optional.of(assignee));
+        when(issueRepository.findWithAssigneeByIdIn(List.of(1L))).thenReturn(List.of(issue));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenReturn(new int[][]{{1}});
+
+        // Act
+        issueService.batchTransition(List.of(1L), null, 5L);
+
+        // Assert
+        verify(dailyClosedRepository).addClosed(2L, 3L, completedAt.toLocalDate(), -1);
+        verify(dailyClosedRepository).addClosed(5L, 3L, completedAt.toLocalDate(), 1);
+    }
+
+    @Test
+    void batchTransition_ShouldThrow_WhenNothingToApply() {
+        assertThrows(BadRequestException.class, () -> issueService.batchTransition(List.of(1L), null, null));
+    }
+
+    private Issue todoIssue(Long id, IssuePriority priority) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setStatus(IssueStatus.TODO);
+        issue.setPriority(priority);
+        issue.setVersion(0L);
+        issue.setProject(Project.builder().id(3L).build());
+        return issue;
+    }
+
+    private IssueDTO issueCreatedAt(Long id, LocalDateTime createdAt) {
+        IssueDTO issue = new IssueDTO();
+        issue.setId(id);
+        issue.setCreatedAt(createdAt);
+        return issue;
     }
 }
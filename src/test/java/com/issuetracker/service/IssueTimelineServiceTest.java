@@ -0,0 +1,177 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.CursorPage;
+import com.issuetracker.dto.IssueHistoryDTO;
+import com.issuetracker.dto.TimelineEntryDTO;
+import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.repository.IssueCommentRepository;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IssueTimelineServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private IssueCommentRepository commentRepository;
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    @Mock
+    private IssueHistoryService historyService;
+
+    @InjectMocks
+    private IssueTimelineService timelineService;
+
+    private final List<TimelineEntryDTO> comments = new ArrayList<>();
+    private final List<IssueHistoryDTO> history = new ArrayList<>();
+    private final List<IssueHistoryDTO> archived = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // The repositories answer their keyset queries from the lists above
+        lenient().when(commentRepository.findTimelinePage(eq(1L), any(), any(), any())).thenAnswer(invocation ->
+                seek(comments, TimelineEntryDTO::getOccurredAt, TimelineEntryDTO::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(historyRepository.findTimelinePage(eq(1L), any(), any(), any())).thenAnswer(invocation ->
+                seek(history, IssueHistoryDTO::getChangedAt, IssueHistoryDTO::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(historyService.getArchivedPage(any(), any(), any(), anyInt())).thenAnswer(invocation ->
+                seek(archived, IssueHistoryDTO::getChangedAt, IssueHistoryDTO::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), Limit.of(invocation.getArgument(3))));
+    }
+
+    @Test
+    void getTimeline_ShouldPageThroughCommentsAndHistoryInTimeOrder() {
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue()));
+        history.add(history(10L, T0));
+        comments.add(comment(5L, T0.plusMinutes(1)));
+        // Same instant: the comment comes before the change, each source in id order
+        history.add(history(12L, T0.plusMinutes(2)));
+        history.add(history(11L, T0.plusMinutes(2)));
+        comments.add(comment(6L, T0.plusMinutes(2)));
+        comments.add(comment(7L, T0.plusMinutes(3)));
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<TimelineEntryDTO> page = timelineService.getTimeline(1L, cursor, 2);
+            page.getItems().forEach(entry -> seen.add(entry.getType() + ":" + entry.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("HISTORY:10", "COMMENT:5", "COMMENT:6", "HISTORY:11", "HISTORY:12", "COMMENT:7"), seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void getTimeline_ShouldStartWithArchivedHistory_AndContinueInTheDatabase() {
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue()));
+        archived.add(history(1L, T0.minusMonths(14)));
+        archived.add(history(2L, T0.minusMonths(13)));
+        comments.add(comment(5L, T0.minusMonths(13).plusDays(1)));
+        history.add(history(10L, T0));
+
+        CursorPage<TimelineEntryDTO> first = timelineService.getTimeline(1L, null, 2);
+        CursorPage<TimelineEntryDTO> second = timelineService.getTimeline(1L, first.getNextCursor(), 2);
+
+        assertEquals(List.of("HISTORY:1", "HISTORY:2"), first.getItems().stream()
+                .map(entry -> entry.getType() + ":" + entry.getId()).toList());
+        assertEquals(List.of("COMMENT:5", "HISTORY:10"), second.getItems().stream()
+                .map(entry -> entry.getType() + ":" + entry.getId()).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getTimeline_ShouldNotQueryDatabaseHistory_WhenArchiveFillsThePage() {
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue()));
+        archived.add(history(1L, T0.minusMonths(14)));
+        archived.add(history(2L, T0.minusMonths(13)));
+        history.add(history(10L, T0));
+
+        CursorPage<TimelineEntryDTO> page = timelineService.getTimeline(1L, null, 1);
+
+        assertEquals(1L, page.getItems().get(0).getId());
+        verify(historyRepository, never()).findTimelinePage(any(), any(), any(), any());
+    }
+
+    @Test
+    void getTimeline_ShouldReturnLastPageWithoutCursor() {
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue()));
+        comments.add(comment(5L, T0));
+
+        CursorPage<TimelineEntryDTO> page = timelineService.getTimeline(1L, null, 50);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals("alice", page.getItems().get(0).getAuthorUsername());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTimeline_ShouldRejectUnknownIssueAndBadInput() {
+        when(issueRepository.findById(2L)).thenReturn(Optional.empty());
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue()));
+
+        assertThrows(ResourceNotFoundException.class, () -> timelineService.getTimeline(2L, null, 50));
+        assertThrows(BadRequestException.class, () -> timelineService.getTimeline(1L, null, 0));
+        assertThrows(BadRequestException.class, () -> timelineService.getTimeline(1L, "not-a-cursor", 50));
+    }
+
+    private static <T> List<T> seek(List<T> rows, Function<T, LocalDateTime> at, Function<T, Long> id,
+                                    LocalDateTime afterAt, Long afterId, Limit limit) {
+        return rows.stream()
+                .filter(row -> afterId == null || at.apply(row).isAfter(afterAt)
+                        || at.apply(row).equals(afterAt) && id.apply(row) > afterId)
+                .sorted(Comparator.comparing(at).thenComparing(id))
+                .limit(limit.max())
+                .toList();
+    }
+
+    private static Issue issue() {
+        Issue issue = new Issue();
+        issue.setId(1L);
+        return issue;
+    }
+
+    private static TimelineEntryDTO comment(Long id, LocalDateTime at) {
+        return new TimelineEntryDTO(id, at, 2L, "alice", "Comment " + id);
+    }
+
+    private static IssueHistoryDTO history(Long id, LocalDateTime at) {
+        return new IssueHistoryDTO(id, 1L, at, 2L, "alice", "TODO", "IN_PROGRESS", null, null);
+    }
+}
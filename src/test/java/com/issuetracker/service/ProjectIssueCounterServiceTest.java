@@ -0,0 +1,160 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ProjectSummaryDTO;
+import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Issue.IssuePriority;
+import com.issuetracker.model.Issue.IssueStatus;
+import com.issuetracker.model.Issue.IssueType;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.ProjectIssueCounter;
+import com.issuetracker.model.ProjectIssueCounter.Dimension;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.ProjectIssueCounterRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectIssueCounterServiceTest {
+
+    @Mock
+    private ProjectIssueCounterRepository counterRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProjectIssueCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counterService = new ProjectIssueCounterService(counterRepository, projectRepository, userRepository, meterRegistry);
+    }
+
+    @Test
+    void issueCreated_ShouldIncrementEveryDimension() {
+        Issue issue = issue(IssueStatus.TODO, null);
+        issue.setPriority(IssuePriority.HIGH);
+        issue.setType(IssueType.BUG);
+
+        counterService.issueCreated(issue);
+
+        verify(counterRepository).adjust(1L, Dimension.STATUS, "TODO", 1);
+        verify(counterRepository).adjust(1L, Dimension.PRIORITY, "HIGH", 1);
+        verify(counterRepository).adjust(1L, Dimension.TYPE, "BUG", 1);
+        verify(counterRepository).adjust(1L, Dimension.ASSIGNEE, ProjectIssueCounter.UNASSIGNED, 1);
+    }
+
+    @Test
+    void apply_ShouldWriteNetDeltasOncePerBucketInKeyOrder() {
+        Issue first = issue(IssueStatus.TODO, null);
+        Issue second = issue(IssueStatus.TODO, null);
+        ProjectIssueCounterService.Deltas deltas = new ProjectIssueCounterService.Deltas()
+                .statusChanged(first, IssueStatus.TODO, IssueStatus.IN_PROGRESS)
+                .statusChanged(second, IssueStatus.TODO, IssueStatus.IN_PROGRESS)
+                .statusChanged(first, IssueStatus.IN_PROGRESS, IssueStatus.DONE);
+
+        counterService.apply(deltas);
+
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).adjust(1L, Dimension.STATUS, "DONE", 1);
+        inOrder.verify(counterRepository).adjust(1L, Dimension.STATUS, "IN_PROGRESS", 1);
+        inOrder.verify(counterRepository).adjust(1L, Dimension.STATUS, "TODO", -2);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void assigneeChanged_ShouldSkipUnchangedAssignee() {
+        User dev = user(5L, "dev");
+        Issue issue = issue(IssueStatus.TODO, dev);
+
+        counterService.assigneeChanged(issue, dev, dev);
+
+        verify(counterRepository, never()).adjust(anyLong(), any(Dimension.class), anyString(), anyLong());
+    }
+
+    @Test
+    void getSummary_ShouldGroupCountersAndResolveUsernames() {
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(counterRepository.findByProjectId(1L)).thenReturn(List.of(
+                counter(Dimension.STATUS, "TODO", 2),
+                counter(Dimension.STATUS, "DONE", 1),
+                counter(Dimension.STATUS, "IN_PROGRESS", 0),
+                counter(Dimension.PRIORITY, "HIGH", 3),
+                counter(Dimension.ASSIGNEE, "5", 2),
+                counter(Dimension.ASSIGNEE, ProjectIssueCounter.UNASSIGNED, 1)));
+        when(userRepository.findAllById(List.of(5L))).thenReturn(List.of(user(5L, "dev")));
+
+        ProjectSummaryDTO summary = counterService.getSummary(1L);
+
+        assertEquals(3, summary.getTotalIssues());
+        assertEquals(Map.of("TODO", 2L, "DONE", 1L), summary.getByStatus());
+        assertEquals(Map.of("HIGH", 3L), summary.getByPriority());
+        assertEquals("dev", summary.getByAssignee().get(0).getUsername());
+        assertNull(summary.getByAssignee().get(1).getUserId());
+    }
+
+    @Test
+    void getSummary_ShouldThrow_WhenProjectMissing() {
+        when(projectRepository.existsById(9L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> counterService.getSummary(9L));
+    }
+
+    @Test
+    void reconcile_ShouldApplyDriftAsDeltasAndRecordIt() {
+        when(counterRepository.findDrift()).thenReturn(List.of(
+                new Object[]{1L, "STATUS", "TODO", 2L},
+                new Object[]{1L, "ASSIGNEE", "5", -1L}));
+
+        int drifted = counterService.reconcile();
+
+        assertEquals(2, drifted);
+        verify(counterRepository).adjust(1L, Dimension.STATUS, "TODO", 2L);
+        verify(counterRepository).adjust(eq(1L), eq(Dimension.ASSIGNEE), eq("5"), eq(-1L));
+        verify(counterRepository).deleteEmpty();
+        assertEquals(3.0, meterRegistry.counter("issuetracker.project.counters.drift").count());
+    }
+
+    private Issue issue(IssueStatus status, User assignee) {
+        Issue issue = new Issue();
+        issue.setStatus(status);
+        issue.setAssignee(assignee);
+        issue.setProject(Project.builder().id(1L).build());
+        return issue;
+    }
+
+    private User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+
+    private ProjectIssueCounter counter(Dimension dimension, String bucket, long count) {
+        return new ProjectIssueCounter(1L, dimension, bucket, count);
+    }
+}
@@ -1,10 +1,13 @@
 package com.issuetracker.service;
 
 import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.PreconditionFailedException;
 import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.ProjectMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Team;
 import com.issuetracker.model.User;
+import com.issuetracker.outbox.OutboxWriter;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.TeamRepository;
 import com.issuetracker.repository.UserRepository;
@@ -21,6 +24,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +39,12 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectMapper projectMapper;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -74,6 +84,7 @@ class ProjectServiceTest {
         assertNotNull(result);
         assertEquals("TEST", result.getKey());
         verify(projectRepository, times(1)).save(any(Project.class));
+        verify(outboxWriter).append(eq(OutboxWriter.PROJECT), eq(1L), eq("created"), any());
     }
 
     @Test
@@ -130,7 +141,7 @@ class ProjectServiceTest {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
-        Project result = projectService.updateProject(testProject);
+        Project result = projectService.updateProject(testProject, null);
 
         assertNotNull(result);
         verify(projectRepository, times(1)).save(any(Project.class));
@@ -143,7 +154,7 @@ class ProjectServiceTest {
         Project project = Project.builder().id(99L).build();
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            projectService.updateProject(project);
+            projectService.updateProject(project, null);
         });
     }
 
@@ -162,10 +173,43 @@ class ProjectServiceTest {
         when(projectRepository.existsByKey("NEW")).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> {
-            projectService.updateProject(updatedProject);
+            projectService.updateProject(updatedProject, null);
         });
     }
 
+    @Test
+    void updateProject_WhenIfMatchIsCurrent_ShouldApplyChangesToStoredProject() {
+        testProject.setTeam(testTeam);
+        testProject.setVersion(3L);
+        Project changes = Project.builder()
+                .id(1L)
+                .name("Renamed")
+                .key("TEST")
+                .build();
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(projectRepository.save(testProject)).thenReturn(testProject);
+
+        Project result = projectService.updateProject(changes, EntityTags.of(testProject));
+
+        assertEquals("Renamed", result.getName());
+        assertEquals(testTeam, result.getTeam());
+    }
+
+    @Test
+    void updateProject_WhenIfMatchIsStale_ShouldThrowWithoutSaving() {
+        testProject.setVersion(3L);
+        Project changes = Project.builder()
+                .id(1L)
+                .name("Renamed")
+                .key("TEST")
+                .build();
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+
+        assertThrows(PreconditionFailedException.class, () -> projectService.updateProject(changes, "\"stale\""));
+        verify(projectRepository, never()).save(any(Project.class));
+        verifyNoInteractions(outboxWriter);
+    }
+
     @Test
     void deleteProject_ShouldDeleteProject() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
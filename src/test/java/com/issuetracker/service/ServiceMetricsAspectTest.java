@@ -0,0 +1,81 @@
+package com.issuetracker.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void serviceCall_ShouldBeTimedWithSuccessOutcome() {
+        userService.getUserById(-1L);
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC)
+                .tags("service", "UserService", "method", "getUserById", "outcome", "success", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void failingServiceCall_ShouldBeTimedWithErrorOutcomeAndException() {
+        assertThrows(RuntimeException.class, () -> userService.assignRoleToUser(-1L, -1L));
+
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC)
+                .tags("service", "UserService", "method", "assignRoleToUser",
+                        "outcome", "error", "exception", "RuntimeException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void repositoryQuery_ShouldBeTimedByMethodAndState() {
+        userService.getUserByUsername("nobody");
+
+        Timer timer = meterRegistry.find("spring.data.repository.invocations")
+                .tags("repository", "UserRepository", "method", "findByUsername", "state", "SUCCESS")
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeServiceAndHibernateMetrics() throws Exception {
+        userService.getAllUsers();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "issuetracker_service_invocations_seconds_count")))
+                .andExpect(content().string(containsString("hibernate_statements")));
+    }
+}
@@ -0,0 +1,149 @@
+package com.issuetracker.service;
+
+import com.issuetracker.config.CachingConfig;
+import com.issuetracker.dto.BurndownDTO;
+import com.issuetracker.dto.IssueStatusChange;
+import com.issuetracker.dto.VelocityDTO;
+import com.issuetracker.model.Sprint;
+import com.issuetracker.model.SprintDailySnapshot;
+import com.issuetracker.repository.IssueHistoryRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.SprintDailySnapshotRepository;
+import com.issuetracker.repository.SprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SprintAnalyticsServiceTest {
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private IssueHistoryRepository historyRepository;
+
+    @Mock
+    private SprintDailySnapshotRepository snapshotRepository;
+
+    private SprintAnalyticsService analyticsService;
+
+    private final LocalDate start = LocalDate.now().minusDays(10);
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new SprintAnalyticsService(sprintRepository, issueRepository, historyRepository,
+                snapshotRepository, new ConcurrentMapCacheManager(CachingConfig.SPRINT_BURNDOWNS));
+    }
+
+    @Test
+    void getBurndown_ShouldReplayStatusChangesPerDay_AndCacheClosedSprint() {
+        Sprint sprint = sprint(1L, start, start.plusDays(3));
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(sprint));
+        when(issueRepository.countBySprintId(1L)).thenReturn(3L);
+        when(historyRepository.streamSprintStatusChanges(eq(1L), isNull(), eq(start.plusDays(4).atStartOfDay())))
+                .thenReturn(Stream.of(
+                        done(10L, start.minusDays(2)),
+                        done(11L, start.plusDays(1)),
+                        change(11L, "DONE", "IN_PROGRESS", start.plusDays(2)),
+                        done(12L, start.plusDays(2))));
+
+        BurndownDTO burndown = analyticsService.getBurndown(1L);
+        BurndownDTO again = analyticsService.getBurndown(1L);
+
+        assertTrue(burndown.isClosed());
+        assertEquals(List.of(2L, 1L, 1L, 1L), burndown.getPoints().stream().map(BurndownDTO.Point::getRemaining).toList());
+        assertEquals(3.0, burndown.getPoints().get(0).getIdeal());
+        assertEquals(0.0, burndown.getPoints().get(3).getIdeal());
+        assertSame(burndown, again);
+        verify(historyRepository, times(1)).streamSprintStatusChanges(any(), any(), any());
+    }
+
+    @Test
+    void getBurndown_ShouldResumeFromSnapshots_ForActiveSprint() {
+        LocalDate today = LocalDate.now();
+        Sprint sprint = sprint(2L, today.minusDays(2), today.plusDays(5));
+        when(sprintRepository.findById(2L)).thenReturn(Optional.of(sprint));
+        when(issueRepository.countBySprintId(2L)).thenReturn(5L);
+        when(snapshotRepository.findBySprintIdAndSnapshotDateBetweenOrderBySnapshotDate(2L, today.minusDays(2), today))
+                .thenReturn(List.of(
+                        new SprintDailySnapshot(2L, today.minusDays(2), 1),
+                        new SprintDailySnapshot(2L, today.minusDays(1), 2)));
+        when(historyRepository.streamSprintStatusChanges(2L, today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(done(20L, today)));
+
+        BurndownDTO burndown = analyticsService.getBurndown(2L);
+
+        assertEquals(List.of(4L, 3L, 2L), burndown.getPoints().stream().map(BurndownDTO.Point::getRemaining).toList());
+    }
+
+    @Test
+    void snapshotActiveSprints_ShouldStoreMissingDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Sprint sprint = sprint(3L, yesterday.minusDays(1), yesterday.plusDays(7));
+        when(sprintRepository.findActiveOn(yesterday)).thenReturn(List.of(sprint));
+        when(snapshotRepository.findBySprintIdAndSnapshotDateBetweenOrderBySnapshotDate(3L, yesterday.minusDays(1), yesterday))
+                .thenReturn(List.of(new SprintDailySnapshot(3L, yesterday.minusDays(1), 0)));
+        when(historyRepository.streamSprintStatusChanges(3L, yesterday.atStartOfDay(), yesterday.plusDays(1).atStartOfDay()))
+                .thenReturn(Stream.of(done(30L, yesterday)));
+
+        analyticsService.snapshotActiveSprints();
+
+        ArgumentCaptor<SprintDailySnapshot> saved = ArgumentCaptor.forClass(SprintDailySnapshot.class);
+        verify(snapshotRepository).save(saved.capture());
+        assertEquals(yesterday, saved.getValue().getSnapshotDate());
+        assertEquals(1L, saved.getValue().getDoneCount());
+    }
+
+    @Test
+    void getVelocity_ShouldReportClosedSprintsOnly() {
+        LocalDate today = LocalDate.now();
+        Sprint active = sprint(4L, today.minusDays(1), today.plusDays(6));
+        Sprint closed = sprint(5L, today.minusDays(9), today.minusDays(2));
+        when(sprintRepository.findByProjectIdOrderByStartDateDesc(1L)).thenReturn(List.of(active, closed));
+        when(issueRepository.countBySprintId(5L)).thenReturn(4L);
+        when(historyRepository.streamSprintStatusChanges(eq(5L), isNull(), any()))
+                .thenReturn(Stream.of(done(50L, today.minusDays(5)), done(51L, today.minusDays(3))));
+
+        VelocityDTO velocity = analyticsService.getVelocity(1L, 6);
+
+        assertEquals(1, velocity.getSprints().size());
+        assertEquals(4L, velocity.getSprints().get(0).getCommitted());
+        assertEquals(2L, velocity.getSprints().get(0).getCompleted());
+        assertEquals(2.0, velocity.getAverageCompleted());
+    }
+
+    private Sprint sprint(Long id, LocalDate startDate, LocalDate endDate) {
+        return Sprint.builder().id(id).name("Sprint " + id).startDate(startDate).endDate(endDate).build();
+    }
+
+    private IssueStatusChange done(Long issueId, LocalDate day) {
+        return change(issueId, "IN_PROGRESS", "DONE", day);
+    }
+
+    private IssueStatusChange change(Long issueId, String oldStatus, String newStatus, LocalDate day) {
+        LocalDateTime at = day.atTime(12, 0);
+        return new IssueStatusChange(issueId, oldStatus, newStatus, at);
+    }
+}
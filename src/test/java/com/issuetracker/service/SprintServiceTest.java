@@ -1,9 +1,12 @@
 package com.issuetracker.service;
 
 import com.issuetracker.exception.BadRequestException;
+import com.issuetracker.exception.PreconditionFailedException;
 import com.issuetracker.exception.ResourceNotFoundException;
+import com.issuetracker.mapper.SprintMapper;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.Sprint;
+import com.issuetracker.outbox.OutboxWriter;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.SprintRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +35,12 @@ class SprintServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private SprintMapper sprintMapper;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private SprintService sprintService;
 
@@ -132,7 +141,7 @@ class SprintServiceTest {
                 .thenReturn(Arrays.asList(testSprint));
         when(sprintRepository.save(any(Sprint.class))).thenReturn(updated);
 
-        Sprint result = sprintService.updateSprint(updated);
+        Sprint result = sprintService.updateSprint(updated, null);
 
         assertNotNull(result);
         assertEquals("Sprint 1 Updated", result.getName());
@@ -150,7 +159,7 @@ class SprintServiceTest {
                 .project(testProject)
                 .build();
 
-        assertThrows(ResourceNotFoundException.class, () -> sprintService.updateSprint(updated));
+        assertThrows(ResourceNotFoundException.class, () -> sprintService.updateSprint(updated, null));
     }
 
     @Test
@@ -165,7 +174,7 @@ class SprintServiceTest {
                 .project(testProject)
                 .build();
 
-        assertThrows(BadRequestException.class, () -> sprintService.updateSprint(invalid));
+        assertThrows(BadRequestException.class, () -> sprintService.updateSprint(invalid, null));
     }
 
     @Test
@@ -182,7 +191,7 @@ class SprintServiceTest {
         when(sprintRepository.findById(1L)).thenReturn(Optional.of(testSprint));
         when(projectRepository.findById(2L)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> sprintService.updateSprint(updated));
+        assertThrows(ResourceNotFoundException.class, () -> sprintService.updateSprint(updated, null));
     }
 
     @Test
@@ -199,7 +208,24 @@ class SprintServiceTest {
         when(sprintRepository.findOverlappingSprints(1L, testSprint.getStartDate(), testSprint.getEndDate()))
                 .thenReturn(Arrays.asList(otherSprint));
 
-        assertThrows(BadRequestException.class, () -> sprintService.updateSprint(testSprint));
+        assertThrows(BadRequestException.class, () -> sprintService.updateSprint(testSprint, null));
+    }
+
+    @Test
+    void updateSprint_WhenIfMatchIsStale_ShouldThrowWithoutSaving() {
+        testSprint.setVersion(2L);
+        Sprint updated = Sprint.builder()
+                .id(1L)
+                .name("Sprint 1 Updated")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 14))
+                .project(testProject)
+                .build();
+        when(sprintRepository.findById(1L)).thenReturn(Optional.of(testSprint));
+
+        assertThrows(PreconditionFailedException.class, () -> sprintService.updateSprint(updated, "\"stale\""));
+        verify(sprintRepository, never()).save(any(Sprint.class));
+        assertEquals("Sprint 1", testSprint.getName());
     }
 
     @Test
@@ -11,6 +11,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -168,6 +169,18 @@ class UserServiceTest {
         verify(userRepository, times(1)).save(any(User.class));
     }
 
+    @Test
+    void assignRoleToUser_ShouldBumpUpdatedAt_SoTheUserETagChanges() {
+        testUser.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(roleRepository.findById(1L)).thenReturn(Optional.of(testRole));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        userService.assignRoleToUser(1L, 1L);
+
+        assertTrue(testUser.getUpdatedAt().isAfter(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
     @Test
     void assignRoleToUser_WhenUserNotFound_ShouldThrowException() {
         when(userRepository.findById(99L)).thenReturn(Optional.empty());